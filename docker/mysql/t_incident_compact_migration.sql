@@ -0,0 +1,123 @@
+-- t_incident 를 좁은 행 구조로 전환
+--   enum 문자열 -> tinyint 코드, content -> t_incident_content, 이름 컬럼(requester / creator / charger) 삭제
+-- 코드 값은 Status / Priority enum 의 code 와 일치해야 한다.
+-- 이름은 id 로 user-service 에서 조회하므로 (UserDirectoryCache) 옮기지 않고 버린다.
+--
+-- 샤드마다 한 번씩 실행: mysql -h <shard host> -u <user> -p <database> < docker/mysql/t_incident_compact_migration.sql
+-- 단계마다 information_schema 로 현재 컬럼 상태를 확인하고 필요한 경우에만 실행하므로,
+-- 이미 전환된 샤드나 ddl-auto=update 로 escalated 가 추가된 샤드, 중간에 실패한 샤드에 다시 실행해도 된다.
+-- (DDL 은 단계마다 자동 커밋되므로 실패 후에는 같은 스크립트를 그대로 다시 실행)
+
+CREATE TABLE IF NOT EXISTS t_incident_content (
+    id      BINARY(16) NOT NULL PRIMARY KEY,
+    content MEDIUMBLOB
+);
+
+-- 전환 전 구조인지 (content 컬럼이 남아 있으면 마지막에 OPTIMIZE TABLE 로 공간 회수)
+SET @needs_optimize := (SELECT COUNT(*) FROM information_schema.columns
+                        WHERE table_schema = DATABASE() AND table_name = 't_incident' AND column_name = 'content');
+
+-- 본문 이동 (헤더 0x00 = 압축하지 않은 UTF-8 원문, 이후 애플리케이션이 저장할 때부터 압축 적용)
+-- 재실행 시 이미 옮긴 행은 IGNORE 로 건너뛴다
+SET @stmt := IF(@needs_optimize > 0,
+    'INSERT IGNORE INTO t_incident_content (id, content)
+     SELECT id, CONCAT(0x00, CONVERT(content USING utf8mb4)) FROM t_incident WHERE content IS NOT NULL',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+-- escalated 는 ddl-auto=update 로 이미 추가되었을 수 있다
+SET @stmt := IF((SELECT COUNT(*) FROM information_schema.columns
+                 WHERE table_schema = DATABASE() AND table_name = 't_incident' AND column_name = 'escalated') = 0,
+    'ALTER TABLE t_incident ADD COLUMN escalated BIT(1) NULL',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+UPDATE t_incident SET escalated = 0 WHERE escalated IS NULL;
+
+-- status: enum 인 동안만 코드 컬럼을 만들어 채우고, 원래 컬럼을 지운 뒤 이름을 바꾼다
+SET @status_enum := (SELECT COUNT(*) FROM information_schema.columns
+                     WHERE table_schema = DATABASE() AND table_name = 't_incident'
+                       AND column_name = 'status' AND data_type = 'enum');
+SET @status_code := (SELECT COUNT(*) FROM information_schema.columns
+                     WHERE table_schema = DATABASE() AND table_name = 't_incident' AND column_name = 'status_code');
+
+SET @stmt := IF(@status_enum > 0 AND @status_code = 0,
+    'ALTER TABLE t_incident ADD COLUMN status_code TINYINT NULL',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+SET @stmt := IF(@status_enum > 0,
+    'UPDATE t_incident SET status_code = CASE status WHEN ''Completed'' THEN 1 WHEN ''Incomplete'' THEN 2 END',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+SET @stmt := IF(@status_enum > 0, 'ALTER TABLE t_incident DROP COLUMN status', 'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+SET @stmt := IF((SELECT COUNT(*) FROM information_schema.columns
+                 WHERE table_schema = DATABASE() AND table_name = 't_incident' AND column_name = 'status_code') > 0,
+    'ALTER TABLE t_incident RENAME COLUMN status_code TO status',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+-- priority: status 와 같은 순서
+SET @priority_enum := (SELECT COUNT(*) FROM information_schema.columns
+                       WHERE table_schema = DATABASE() AND table_name = 't_incident'
+                         AND column_name = 'priority' AND data_type = 'enum');
+SET @priority_code := (SELECT COUNT(*) FROM information_schema.columns
+                       WHERE table_schema = DATABASE() AND table_name = 't_incident' AND column_name = 'priority_code');
+
+SET @stmt := IF(@priority_enum > 0 AND @priority_code = 0,
+    'ALTER TABLE t_incident ADD COLUMN priority_code TINYINT NULL',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+SET @stmt := IF(@priority_enum > 0,
+    'UPDATE t_incident SET priority_code = CASE priority WHEN ''URGENT'' THEN 1 WHEN ''RELAXED'' THEN 2 END',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+SET @stmt := IF(@priority_enum > 0, 'ALTER TABLE t_incident DROP COLUMN priority', 'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+SET @stmt := IF((SELECT COUNT(*) FROM information_schema.columns
+                 WHERE table_schema = DATABASE() AND table_name = 't_incident' AND column_name = 'priority_code') > 0,
+    'ALTER TABLE t_incident RENAME COLUMN priority_code TO priority',
+    'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+-- 본문 / 이름 컬럼 삭제 (남아 있는 것만)
+SET @stmt := (SELECT IF(COUNT(*) = 0, 'DO 0',
+                        CONCAT('ALTER TABLE t_incident ',
+                               GROUP_CONCAT(CONCAT('DROP COLUMN ', column_name) SEPARATOR ', ')))
+              FROM information_schema.columns
+              WHERE table_schema = DATABASE() AND table_name = 't_incident'
+                AND column_name IN ('content', 'requester', 'creator', 'charger'));
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
+
+SET @stmt := IF(@needs_optimize > 0, 'OPTIMIZE TABLE t_incident', 'DO 0');
+PREPARE migration_step FROM @stmt;
+EXECUTE migration_step;
+DEALLOCATE PREPARE migration_step;
@@ -0,0 +1,136 @@
+-- 마이그레이션 전 / 후 t_incident 행 구조를 1M 건으로 비교
+-- 실행: mysql -u root -p service_desk < docker/mysql/t_incident_layout_benchmark.sql
+-- 결과: 두 레이아웃의 데이터/인덱스 크기와, 애플리케이션이 실행하는 조회의 EXPLAIN ANALYZE 를 출력한다.
+--
+-- 테이블 정의는 Hibernate 가 생성하는 매핑 그대로 (컬럼 이름은 CamelCaseToUnderscoresNamingStrategy 기준)
+--   bench_incident_before : 기존 Incident (@Enumerated(STRING) -> MySQL enum, content / 이름 varchar)
+--   bench_incident_after  : t_incident_compact_migration.sql 적용 후 (tinyint 코드, escalated, 본문은 별도 테이블)
+
+SET SESSION cte_max_recursion_depth = 1000000;
+
+DROP TABLE IF EXISTS bench_incident_before;
+DROP TABLE IF EXISTS bench_incident_after;
+DROP TABLE IF EXISTS bench_incident_after_content;
+
+CREATE TABLE bench_incident_before (
+    accept_dt       DATETIME(6),
+    created_at      DATETIME(6),
+    end_dt          DATETIME(6),
+    request_dt      DATETIME(6),
+    updated_at      DATETIME(6),
+    charger_by_id   BINARY(16),
+    creator_by_id   BINARY(16),
+    id              BINARY(16) NOT NULL,
+    requester_by_id BINARY(16),
+    ticket_byid     BINARY(16),
+    charger         VARCHAR(255),
+    content         VARCHAR(255),
+    creator         VARCHAR(255),
+    priority        ENUM ('URGENT', 'RELAXED'),
+    requester       VARCHAR(255),
+    status          ENUM ('Completed', 'Incomplete'),
+    title           VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bench_incident_after (
+    escalated       BIT(1),
+    priority        TINYINT,
+    status          TINYINT,
+    accept_dt       DATETIME(6),
+    created_at      DATETIME(6),
+    end_dt          DATETIME(6),
+    request_dt      DATETIME(6),
+    updated_at      DATETIME(6),
+    charger_by_id   BINARY(16),
+    creator_by_id   BINARY(16),
+    id              BINARY(16) NOT NULL,
+    requester_by_id BINARY(16),
+    ticket_byid     BINARY(16),
+    title           VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bench_incident_after_content (
+    id      BINARY(16) NOT NULL PRIMARY KEY,
+    content MEDIUMBLOB
+) ENGINE = InnoDB;
+
+-- 10% 미결, 1/3 URGENT, 이름은 사람 수만큼 반복 (요청자 5000 / 생성자 500 / 담당자 200)
+INSERT INTO bench_incident_before
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000000)
+SELECT NOW(6) - INTERVAL n SECOND + INTERVAL 5 MINUTE,
+       NOW(6) - INTERVAL n SECOND,
+       IF(n % 10 = 0, NULL, NOW(6)),
+       NOW(6) - INTERVAL n SECOND,
+       NOW(6) - INTERVAL n SECOND,
+       UNHEX(MD5(CONCAT('charger', n % 200))),
+       UNHEX(MD5(CONCAT('creator', n % 500))),
+       UUID_TO_BIN(UUID()),
+       UNHEX(MD5(CONCAT('requester', n % 5000))),
+       UUID_TO_BIN(UUID()),
+       CONCAT('charger ', n % 200),
+       LEFT(REPEAT(CONCAT('content of incident ', n, ' '), 10), 255),
+       CONCAT('creator ', n % 500),
+       IF(n % 3 = 0, 'URGENT', 'RELAXED'),
+       CONCAT('requester ', n % 5000),
+       IF(n % 10 = 0, 'Incomplete', 'Completed'),
+       CONCAT('incident ', n)
+FROM seq;
+
+INSERT INTO bench_incident_after
+SELECT 0,
+       IF(priority = 'URGENT', 1, 2),
+       IF(status = 'Completed', 1, 2),
+       accept_dt, created_at, end_dt, request_dt, updated_at,
+       charger_by_id, creator_by_id, id, requester_by_id, ticket_byid,
+       title
+FROM bench_incident_before;
+
+INSERT INTO bench_incident_after_content
+SELECT id, CONCAT(0x00, content) FROM bench_incident_before;
+
+ANALYZE TABLE bench_incident_before, bench_incident_after, bench_incident_after_content;
+
+SELECT table_name,
+       table_rows,
+       ROUND(data_length / 1024 / 1024, 1)  AS data_mb,
+       ROUND(index_length / 1024 / 1024, 1) AS index_mb,
+       avg_row_length
+FROM information_schema.tables
+WHERE table_schema = DATABASE()
+  AND table_name LIKE 'bench_incident%';
+
+-- 목록 조회 (GET /api/incident): 매핑된 전체 컬럼, created_at 역순 첫 페이지
+EXPLAIN ANALYZE
+SELECT id, accept_dt, charger, charger_by_id, content, created_at, creator, creator_by_id, end_dt, priority,
+       request_dt, requester, requester_by_id, status, ticket_byid, title, updated_at
+FROM bench_incident_before
+ORDER BY created_at DESC
+LIMIT 20;
+
+EXPLAIN ANALYZE
+SELECT id, accept_dt, charger_by_id, created_at, creator_by_id, end_dt, escalated, priority,
+       request_dt, requester_by_id, status, ticket_byid, title, updated_at
+FROM bench_incident_after
+ORDER BY created_at DESC
+LIMIT 20;
+
+-- 기동 시 담당자 부하 복원 (IncidentRepository.countOpenByCharger)
+EXPLAIN ANALYZE
+SELECT charger_by_id, priority, COUNT(*)
+FROM bench_incident_before
+WHERE status = 'Incomplete' AND charger_by_id IS NOT NULL
+GROUP BY charger_by_id, priority;
+
+EXPLAIN ANALYZE
+SELECT charger_by_id, priority, COUNT(*)
+FROM bench_incident_after
+WHERE status = 2 AND charger_by_id IS NOT NULL
+GROUP BY charger_by_id, priority;
+
+-- 기동 시 SLA 마감 재구성 (IncidentRepository.findOpenDeadlines, 마이그레이션 후에만 escalated 존재)
+EXPLAIN ANALYZE
+SELECT id, priority, request_dt
+FROM bench_incident_after
+WHERE status = 2 AND (escalated IS NULL OR escalated = 0);
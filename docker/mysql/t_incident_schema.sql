@@ -0,0 +1,29 @@
+-- 인시던트 테이블 생성 (샤드마다 한 번씩 실행, 이미 있으면 건너뜀)
+-- JPA ddl-auto 는 기본(0번) 샤드에만 적용되므로 1번 이후 샤드에는 이 스크립트로 테이블을 만든다.
+-- 기동 시 ShardSchemaVerifier 가 모든 샤드에 테이블이 있는지 확인하고, 없으면 기동을 실패시킨다.
+-- 실행: mysql -h <shard host> -u <user> -p <database> < docker/mysql/t_incident_schema.sql
+--
+-- 정의는 Incident / IncidentContent 매핑과 같다 (t_incident_compact_migration.sql 적용 후 구조).
+
+CREATE TABLE IF NOT EXISTS t_incident (
+    escalated       BIT(1),
+    priority        TINYINT,
+    status          TINYINT,
+    accept_dt       DATETIME(6),
+    created_at      DATETIME(6),
+    end_dt          DATETIME(6),
+    request_dt      DATETIME(6),
+    updated_at      DATETIME(6),
+    charger_by_id   BINARY(16),
+    creator_by_id   BINARY(16),
+    id              BINARY(16) NOT NULL,
+    requester_by_id BINARY(16),
+    ticket_byid     BINARY(16),
+    title           VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS t_incident_content (
+    id      BINARY(16) NOT NULL PRIMARY KEY,
+    content MEDIUMBLOB
+) ENGINE = InnoDB;
@@ -0,0 +1,128 @@
+package com.capston_design.fkiller.itoms.service_desk.serialization;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.code.status.SuccessStatus;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 변경 전(baseline) 응답 경로 복제: 어노테이션 기반 ApiResponse 빈 직렬화 + 빌더 DTO + @JsonFormat
+final class BaselineResponses {
+
+    private BaselineResponses() {
+    }
+
+    @JsonPropertyOrder({"isSuccess", "code", "message", "result"})
+    static class Envelope<T> {
+        @JsonProperty("isSuccess")
+        private final Boolean isSuccess;
+        private final String code;
+        private final String message;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final T result;
+
+        Envelope(Boolean isSuccess, String code, String message, T result) {
+            this.isSuccess = isSuccess;
+            this.code = code;
+            this.message = message;
+            this.result = result;
+        }
+
+        static <T> Envelope<T> onSuccess(T result) {
+            return new Envelope<>(true, SuccessStatus._OK.getCode(), SuccessStatus._OK.getMessage(), result);
+        }
+
+        public Boolean getIsSuccess() {
+            return isSuccess;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public T getResult() {
+            return result;
+        }
+    }
+
+    static class IncidentDTO {
+        public UUID id;
+        public String title;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public String content;
+        public LocalDateTime requestDT;
+        public LocalDateTime acceptDT;
+        public LocalDateTime endDT;
+        public Status status;
+        public Priority priority;
+        public UUID ticketByID;
+        public UUID requesterById;
+        public UUID creatorById;
+        public UUID chargerById;
+        public String requester;
+        public String creator;
+        public String charger;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        public LocalDateTime createdAt;
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        public LocalDateTime updatedAt;
+    }
+
+    static class IncidentListDTO {
+        public List<IncidentDTO> incidentList;
+        public Integer listSize;
+        public Integer totalPage;
+        public Long totalElements;
+        public Boolean isFirst;
+        public Boolean isLast;
+    }
+
+    static IncidentDTO toDTO(Incident incident, Map<UUID, String> names) {
+        IncidentDTO dto = new IncidentDTO();
+        dto.id = incident.getId();
+        dto.title = incident.getTitle();
+        dto.content = incident.getContent();
+        dto.requestDT = incident.getRequestDT();
+        dto.acceptDT = incident.getAcceptDT();
+        dto.endDT = incident.getEndDT();
+        dto.status = incident.getStatus();
+        dto.priority = incident.getPriority();
+        dto.ticketByID = incident.getTicketByID();
+        dto.requesterById = incident.getRequesterById();
+        dto.creatorById = incident.getCreatorById();
+        dto.chargerById = incident.getChargerById();
+        dto.requester = names.get(incident.getRequesterById());
+        dto.creator = names.get(incident.getCreatorById());
+        dto.charger = names.get(incident.getChargerById());
+        dto.createdAt = incident.getCreatedAt();
+        dto.updatedAt = incident.getUpdatedAt();
+        return dto;
+    }
+
+    static IncidentListDTO toListDTO(List<Incident> incidents, Map<UUID, String> names) {
+        IncidentListDTO dto = new IncidentListDTO();
+        dto.incidentList = new ArrayList<>();
+        for (Incident incident : incidents) {
+            dto.incidentList.add(toDTO(incident, names));
+        }
+        dto.listSize = dto.incidentList.size();
+        dto.totalPage = 50;
+        dto.totalElements = 1000L;
+        dto.isFirst = true;
+        dto.isLast = false;
+        return dto;
+    }
+}
@@ -0,0 +1,103 @@
+package com.capston_design.fkiller.itoms.service_desk.serialization;
+
+import com.capston_design.fkiller.itoms.service_desk.dto.IncidentResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+// 비교용 후보: 빌더 DTO 는 유지하고 DTO 전용 JsonSerializer 로 직렬화
+// (채택한 경로는 DTO 없이 엔티티에서 바로 쓰는 IncidentViewSerializer)
+final class CandidateSerializers {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString REQUEST_DT = new SerializedString("requestDT");
+    private static final SerializedString ACCEPT_DT = new SerializedString("acceptDT");
+    private static final SerializedString END_DT = new SerializedString("endDT");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+    private static final SerializedString TICKET_BY_ID = new SerializedString("ticketByID");
+    private static final SerializedString REQUESTER_BY_ID = new SerializedString("requesterById");
+    private static final SerializedString CREATOR_BY_ID = new SerializedString("creatorById");
+    private static final SerializedString CHARGER_BY_ID = new SerializedString("chargerById");
+    private static final SerializedString REQUESTER = new SerializedString("requester");
+    private static final SerializedString CREATOR = new SerializedString("creator");
+    private static final SerializedString CHARGER = new SerializedString("charger");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final DateTimeFormatter AUDIT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private CandidateSerializers() {
+    }
+
+    static final class DtoSerializer extends JsonSerializer<IncidentResponse.IncidentCreateResponseDTO> {
+        @Override
+        public void serialize(IncidentResponse.IncidentCreateResponseDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeFields(gen, dto.getId(), dto.getTitle(), dto.getContent(), dto.getRequestDT(), dto.getAcceptDT(), dto.getEndDT(),
+                    dto.getStatus() != null ? dto.getStatus().name() : null, dto.getPriority() != null ? dto.getPriority().name() : null,
+                    dto.getTicketByID(), dto.getRequesterById(), dto.getCreatorById(), dto.getChargerById(),
+                    dto.getRequester(), dto.getCreator(), dto.getCharger(), dto.getCreatedAt(), dto.getUpdatedAt());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeFields(JsonGenerator gen, UUID id, String title, String content,
+                                    LocalDateTime requestDT, LocalDateTime acceptDT, LocalDateTime endDT,
+                                    String status, String priority, UUID ticketByID,
+                                    UUID requesterById, UUID creatorById, UUID chargerById,
+                                    String requester, String creator, String charger,
+                                    LocalDateTime createdAt, LocalDateTime updatedAt) throws IOException {
+        gen.writeFieldName(ID);
+        writeUuid(gen, id);
+        gen.writeFieldName(TITLE);
+        gen.writeString(title);
+        if (content != null) {
+            gen.writeFieldName(CONTENT);
+            gen.writeString(content);
+        }
+        gen.writeFieldName(REQUEST_DT);
+        writeIso(gen, requestDT);
+        gen.writeFieldName(ACCEPT_DT);
+        writeIso(gen, acceptDT);
+        gen.writeFieldName(END_DT);
+        writeIso(gen, endDT);
+        gen.writeFieldName(STATUS);
+        gen.writeString(status);
+        gen.writeFieldName(PRIORITY);
+        gen.writeString(priority);
+        gen.writeFieldName(TICKET_BY_ID);
+        writeUuid(gen, ticketByID);
+        gen.writeFieldName(REQUESTER_BY_ID);
+        writeUuid(gen, requesterById);
+        gen.writeFieldName(CREATOR_BY_ID);
+        writeUuid(gen, creatorById);
+        gen.writeFieldName(CHARGER_BY_ID);
+        writeUuid(gen, chargerById);
+        gen.writeFieldName(REQUESTER);
+        gen.writeString(requester);
+        gen.writeFieldName(CREATOR);
+        gen.writeString(creator);
+        gen.writeFieldName(CHARGER);
+        gen.writeString(charger);
+        gen.writeFieldName(CREATED_AT);
+        gen.writeString(createdAt != null ? AUDIT_FORMAT.format(createdAt) : null);
+        gen.writeFieldName(UPDATED_AT);
+        gen.writeString(updatedAt != null ? AUDIT_FORMAT.format(updatedAt) : null);
+    }
+
+    private static void writeUuid(JsonGenerator gen, UUID value) throws IOException {
+        gen.writeString(value != null ? value.toString() : null);
+    }
+
+    private static void writeIso(JsonGenerator gen, LocalDateTime value) throws IOException {
+        gen.writeString(value != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) : null);
+    }
+}
@@ -0,0 +1,200 @@
+package com.capston_design.fkiller.itoms.service_desk.serialization;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.converter.IncidentConverter;
+import com.capston_design.fkiller.itoms.service_desk.dto.IncidentResponse;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.model.common.BaseEntity;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 생성/단건/목록 응답 1건을 직렬화하는 비용 비교 (-prof gc 의 gc.alloc.rate.norm = 요청당 할당 바이트)
+//  baseline: 변경 전 경로 (어노테이션 기반 ApiResponse + 빌더 DTO + @JsonFormat)
+//  current : 현재 경로 (ApiResponseSerializer + DTO 없이 엔티티 + 이름 맵에서 바로 직렬화)
+//  dtoSerializer: 비교용 후보 (빌더 DTO + DTO 전용 JsonSerializer)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IncidentSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private JsonMapper baselineMapper;
+    private JsonMapper currentMapper;
+    private JsonMapper dtoSerializerMapper;
+
+    private Incident created;
+    private Incident detailed;
+    private List<Incident> page;
+    private Map<UUID, String> names;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        baselineMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+        currentMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+        dtoSerializerMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new BlackbirdModule())
+                .addModule(new SimpleModule().addSerializer(IncidentResponse.IncidentCreateResponseDTO.class,
+                        new CandidateSerializers.DtoSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .build();
+
+        names = new HashMap<>();
+        created = incident(null);
+        detailed = incident("로그인 시 500 에러가 발생합니다. 재현 절차: 1) 로그인 페이지 접속 2) 계정 입력 3) 제출");
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(incident(null));
+        }
+    }
+
+    private Incident incident(String content) throws ReflectiveOperationException {
+        Incident incident = new Incident();
+        incident.setId(UUID.randomUUID());
+        incident.setTitle("로그인 장애");
+        incident.setContent(content);
+        incident.setRequestDT(LocalDateTime.of(2025, 5, 1, 9, 30, 12));
+        incident.setStatus(Status.Incomplete);
+        incident.setPriority(Priority.URGENT);
+        incident.setTicketByID(UUID.randomUUID());
+        incident.setRequesterById(person("홍길동"));
+        incident.setCreatorById(person("김철수"));
+        incident.setChargerById(person("이영희"));
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 9, 30, 12, 345_000_000);
+        setAudit(incident, "createdAt", now);
+        setAudit(incident, "updatedAt", now);
+        return incident;
+    }
+
+    private UUID person(String name) {
+        UUID id = UUID.randomUUID();
+        names.put(id, name);
+        return id;
+    }
+
+    private static void setAudit(Incident incident, String field, LocalDateTime value) throws ReflectiveOperationException {
+        Field f = BaseEntity.class.getDeclaredField(field);
+        f.setAccessible(true);
+        f.set(incident, value);
+    }
+
+    @Benchmark
+    public void createBaseline() throws IOException {
+        baselineMapper.writeValue(sink, BaselineResponses.Envelope.onSuccess(BaselineResponses.toDTO(created, names)));
+    }
+
+    @Benchmark
+    public void createCurrent() throws IOException {
+        currentMapper.writeValue(sink, ApiResponse.onSuccess(IncidentConverter.toIncidentView(created, names)));
+    }
+
+    @Benchmark
+    public void createDtoSerializer() throws IOException {
+        dtoSerializerMapper.writeValue(sink, ApiResponse.onSuccess(toDTO(created, names)));
+    }
+
+    @Benchmark
+    public void getBaseline() throws IOException {
+        baselineMapper.writeValue(sink, BaselineResponses.Envelope.onSuccess(BaselineResponses.toDTO(detailed, names)));
+    }
+
+    @Benchmark
+    public void getCurrent() throws IOException {
+        currentMapper.writeValue(sink, ApiResponse.onSuccess(IncidentConverter.toIncidentView(detailed, names)));
+    }
+
+    @Benchmark
+    public void getDtoSerializer() throws IOException {
+        dtoSerializerMapper.writeValue(sink, ApiResponse.onSuccess(toDTO(detailed, names)));
+    }
+
+    @Benchmark
+    public void listBaseline() throws IOException {
+        baselineMapper.writeValue(sink, BaselineResponses.Envelope.onSuccess(BaselineResponses.toListDTO(page, names)));
+    }
+
+    @Benchmark
+    public void listCurrent() throws IOException {
+        currentMapper.writeValue(sink, ApiResponse.onSuccess(IncidentConverter.toIncidentListView(
+                new PageImpl<>(page, PageRequest.of(0, PAGE_SIZE), 1000), names)));
+    }
+
+    @Benchmark
+    public void listDtoSerializer() throws IOException {
+        dtoSerializerMapper.writeValue(sink, ApiResponse.onSuccess(toListDTO(
+                new PageImpl<>(page, PageRequest.of(0, PAGE_SIZE), 1000))));
+    }
+
+
+    // 변경 전 IncidentConverter 의 빌더 변환
+    private static IncidentResponse.IncidentCreateResponseDTO toDTO(Incident incident, Map<UUID, String> names) {
+        return IncidentResponse.IncidentCreateResponseDTO.builder()
+                .id(incident.getId())
+                .title(incident.getTitle())
+                .content(incident.getContent())
+                .requestDT(incident.getRequestDT())
+                .acceptDT(incident.getAcceptDT())
+                .endDT(incident.getEndDT())
+                .status(incident.getStatus())
+                .priority(incident.getPriority())
+                .ticketByID(incident.getTicketByID())
+                .requesterById(incident.getRequesterById())
+                .creatorById(incident.getCreatorById())
+                .chargerById(incident.getChargerById())
+                .requester(names.get(incident.getRequesterById()))
+                .creator(names.get(incident.getCreatorById()))
+                .charger(names.get(incident.getChargerById()))
+                .createdAt(incident.getCreatedAt())
+                .updatedAt(incident.getUpdatedAt())
+                .build();
+    }
+
+    private IncidentResponse.IncidentListResponseDTO toListDTO(Page<Incident> incidents) {
+        List<IncidentResponse.IncidentCreateResponseDTO> incidentList = new ArrayList<>(incidents.getNumberOfElements());
+        for (Incident incident : incidents.getContent()) {
+            incidentList.add(toDTO(incident, names));
+        }
+        return IncidentResponse.IncidentListResponseDTO.builder()
+                .incidentList(incidentList)
+                .listSize(incidentList.size())
+                .totalPage(incidents.getTotalPages())
+                .totalElements(incidents.getTotalElements())
+                .isFirst(incidents.isFirst())
+                .isLast(incidents.isLast())
+                .build();
+    }
+}
@@ -1,28 +1,39 @@
 package com.capston_design.fkiller.itoms.service_desk.apiPayload;
 
 import com.capston_design.fkiller.itoms.service_desk.apiPayload.code.status.SuccessStatus;
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonPropertyOrder;
-import lombok.AllArgsConstructor;
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer.ApiResponseSerializer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import lombok.Getter;
 
 @Getter
-@AllArgsConstructor
-@JsonPropertyOrder({"isSuccess", "code", "message", "result"})
+@JsonSerialize(using = ApiResponseSerializer.class)
 public class ApiResponse<T> {
 
-    @JsonProperty("isSuccess")
+    private static final String SUCCESS_CODE = SuccessStatus._OK.getCode();
+    private static final String SUCCESS_MESSAGE = SuccessStatus._OK.getMessage();
+
     private final Boolean isSuccess;
     private final String code;
     private final String message;
-    @JsonInclude(JsonInclude.Include.NON_NULL)
     private T result;
 
+    // onSuccess 로 만든 응답인지 여부 (직렬화 시 code/message 를 미리 인코딩된 값으로 쓴다)
+    @JsonIgnore
+    private boolean defaultSuccess;
+
+    public ApiResponse(Boolean isSuccess, String code, String message, T result) {
+        this.isSuccess = isSuccess;
+        this.code = code;
+        this.message = message;
+        this.result = result;
+    }
 
     // 성공한 경우 응답 생성
     public static <T> ApiResponse<T> onSuccess(T result){
-        return new ApiResponse<>(true, SuccessStatus._OK.getCode() , SuccessStatus._OK.getMessage(), result);
+        ApiResponse<T> response = new ApiResponse<>(true, SUCCESS_CODE, SUCCESS_MESSAGE, result);
+        response.defaultSuccess = true;
+        return response;
     }
 
     // 실패한 경우 응답 생성
@@ -20,6 +20,10 @@ public enum ErrorStatus implements BaseErrorCode {
     // 멤버 관려 에러
     MEMBER_NOT_FOUND(HttpStatus.BAD_REQUEST, "MEMBER4001", "사용자가 없습니다."),
 
+    // 인시던트 관련 에러
+    INCIDENT_NOT_FOUND(HttpStatus.NOT_FOUND, "INCIDENT4041", "인시던트가 없습니다."),
+    INCIDENT_PAGE_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "INCIDENT4001", "페이지 번호 또는 크기가 허용 범위를 벗어났습니다."),
+
     // Ror test
     TEMP_EXCEPTION(HttpStatus.BAD_REQUEST, "TEMP4001", "이거는 테스트");
 
@@ -0,0 +1,58 @@
+package com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.code.status.SuccessStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+// ApiResponse 봉투 직렬화
+// 필드 이름과 성공 응답의 code/message 는 SerializedString 으로 미리 만들어 두고 (인코딩된 바이트를 캐시),
+// 빈 프로퍼티 탐색 없이 result 만 일반 직렬화한다.
+public class ApiResponseSerializer extends JsonSerializer<ApiResponse<?>> {
+
+    private static final SerializedString IS_SUCCESS = new SerializedString("isSuccess");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString RESULT = new SerializedString("result");
+
+    private static final SerializedString SUCCESS_CODE = new SerializedString(SuccessStatus._OK.getCode());
+    private static final SerializedString SUCCESS_MESSAGE = new SerializedString(SuccessStatus._OK.getMessage());
+
+    @Override
+    public void serialize(ApiResponse<?> response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+
+        gen.writeFieldName(IS_SUCCESS);
+        if (response.getIsSuccess() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(response.getIsSuccess());
+        }
+
+        // onSuccess 로 만든 응답은 문자열 비교 없이 미리 인코딩된 code/message 를 쓴다
+        boolean success = response.isDefaultSuccess();
+        gen.writeFieldName(CODE);
+        if (success) {
+            gen.writeString(SUCCESS_CODE);
+        } else {
+            gen.writeString(response.getCode());
+        }
+        gen.writeFieldName(MESSAGE);
+        if (success) {
+            gen.writeString(SUCCESS_MESSAGE);
+        } else {
+            gen.writeString(response.getMessage());
+        }
+
+        // result 는 null 이면 생략 (기존 @JsonInclude(NON_NULL) 과 동일)
+        if (response.getResult() != null) {
+            gen.writeFieldName(RESULT);
+            provider.defaultSerializeValue(response.getResult(), gen);
+        }
+        gen.writeEndObject();
+    }
+}
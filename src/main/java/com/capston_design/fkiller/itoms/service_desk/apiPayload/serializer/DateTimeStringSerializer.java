@@ -0,0 +1,20 @@
+package com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// "yyyy-MM-dd HH:mm:ss" 형식 LocalDateTime 직렬화 (@JsonFormat 해석 없이 공유 formatter 사용)
+public class DateTimeStringSerializer extends JsonSerializer<LocalDateTime> {
+
+    static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(FORMATTER.format(value));
+    }
+}
@@ -0,0 +1,45 @@
+package com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer;
+
+import com.capston_design.fkiller.itoms.service_desk.dto.IncidentResponse;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+
+// 인시던트 목록 응답을 Page 에서 바로 직렬화 (IncidentListResponseDTO 와 동일한 형식)
+public class IncidentListViewSerializer extends JsonSerializer<IncidentResponse.IncidentListView> {
+
+    private static final SerializedString INCIDENT_LIST = new SerializedString("incidentList");
+    private static final SerializedString LIST_SIZE = new SerializedString("listSize");
+    private static final SerializedString TOTAL_PAGE = new SerializedString("totalPage");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString IS_FIRST = new SerializedString("isFirst");
+    private static final SerializedString IS_LAST = new SerializedString("isLast");
+
+    @Override
+    public void serialize(IncidentResponse.IncidentListView view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Page<Incident> incidents = view.incidents();
+        gen.writeStartObject(view);
+        gen.writeFieldName(INCIDENT_LIST);
+        gen.writeStartArray();
+        for (Incident incident : incidents.getContent()) {
+            IncidentViewSerializer.writeIncident(incident, view.names(), gen);
+        }
+        gen.writeEndArray();
+        gen.writeFieldName(LIST_SIZE);
+        gen.writeNumber(incidents.getNumberOfElements());
+        gen.writeFieldName(TOTAL_PAGE);
+        gen.writeNumber(incidents.getTotalPages());
+        gen.writeFieldName(TOTAL_ELEMENTS);
+        gen.writeNumber(incidents.getTotalElements());
+        gen.writeFieldName(IS_FIRST);
+        gen.writeBoolean(incidents.isFirst());
+        gen.writeFieldName(IS_LAST);
+        gen.writeBoolean(incidents.isLast());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,95 @@
+package com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer;
+
+import com.capston_design.fkiller.itoms.service_desk.dto.IncidentResponse;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.UUID;
+
+// 인시던트 응답을 DTO 를 거치지 않고 엔티티 + 이름 맵에서 바로 직렬화
+// 필드 순서/형식은 IncidentCreateResponseDTO 와 동일 (content 는 null 이면 생략)
+public class IncidentViewSerializer extends JsonSerializer<IncidentResponse.IncidentView> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString REQUEST_DT = new SerializedString("requestDT");
+    private static final SerializedString ACCEPT_DT = new SerializedString("acceptDT");
+    private static final SerializedString END_DT = new SerializedString("endDT");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+    private static final SerializedString TICKET_BY_ID = new SerializedString("ticketByID");
+    private static final SerializedString REQUESTER_BY_ID = new SerializedString("requesterById");
+    private static final SerializedString CREATOR_BY_ID = new SerializedString("creatorById");
+    private static final SerializedString CHARGER_BY_ID = new SerializedString("chargerById");
+    private static final SerializedString REQUESTER = new SerializedString("requester");
+    private static final SerializedString CREATOR = new SerializedString("creator");
+    private static final SerializedString CHARGER = new SerializedString("charger");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    @Override
+    public void serialize(IncidentResponse.IncidentView view, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeIncident(view.incident(), view.names(), gen);
+    }
+
+    static void writeIncident(Incident incident, Map<UUID, String> names, JsonGenerator gen) throws IOException {
+        gen.writeStartObject(incident);
+        gen.writeFieldName(ID);
+        writeUuid(incident.getId(), gen);
+        gen.writeFieldName(TITLE);
+        gen.writeString(incident.getTitle());
+        if (incident.getContent() != null) {
+            gen.writeFieldName(CONTENT);
+            gen.writeString(incident.getContent());
+        }
+        gen.writeFieldName(REQUEST_DT);
+        writeDateTime(incident.getRequestDT(), DateTimeFormatter.ISO_LOCAL_DATE_TIME, gen);
+        gen.writeFieldName(ACCEPT_DT);
+        writeDateTime(incident.getAcceptDT(), DateTimeFormatter.ISO_LOCAL_DATE_TIME, gen);
+        gen.writeFieldName(END_DT);
+        writeDateTime(incident.getEndDT(), DateTimeFormatter.ISO_LOCAL_DATE_TIME, gen);
+        gen.writeFieldName(STATUS);
+        gen.writeString(incident.getStatus() != null ? incident.getStatus().name() : null);
+        gen.writeFieldName(PRIORITY);
+        gen.writeString(incident.getPriority() != null ? incident.getPriority().name() : null);
+        gen.writeFieldName(TICKET_BY_ID);
+        writeUuid(incident.getTicketByID(), gen);
+        gen.writeFieldName(REQUESTER_BY_ID);
+        writeUuid(incident.getRequesterById(), gen);
+        gen.writeFieldName(CREATOR_BY_ID);
+        writeUuid(incident.getCreatorById(), gen);
+        gen.writeFieldName(CHARGER_BY_ID);
+        writeUuid(incident.getChargerById(), gen);
+        gen.writeFieldName(REQUESTER);
+        gen.writeString(nameOf(names, incident.getRequesterById()));
+        gen.writeFieldName(CREATOR);
+        gen.writeString(nameOf(names, incident.getCreatorById()));
+        gen.writeFieldName(CHARGER);
+        gen.writeString(nameOf(names, incident.getChargerById()));
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(incident.getCreatedAt(), DateTimeStringSerializer.FORMATTER, gen);
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(incident.getUpdatedAt(), DateTimeStringSerializer.FORMATTER, gen);
+        gen.writeEndObject();
+    }
+
+    private static String nameOf(Map<UUID, String> names, UUID personId) {
+        return personId != null ? names.get(personId) : null;
+    }
+
+    private static void writeUuid(UUID value, JsonGenerator gen) throws IOException {
+        gen.writeString(value != null ? value.toString() : null);
+    }
+
+    private static void writeDateTime(LocalDateTime value, DateTimeFormatter formatter, JsonGenerator gen) throws IOException {
+        gen.writeString(value != null ? formatter.format(value) : null);
+    }
+}
@@ -0,0 +1,321 @@
+package com.capston_design.fkiller.itoms.service_desk.assignment;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 미결 인시던트 부하 기준으로 담당자를 배정하는 인메모리 엔진
+// 담당자는 여러 stripe 로 나뉘고, stripe 마다 별도의 lock + 인덱스 min-heap 을 가져 단일 lock 경합을 피한다.
+// URGENT 는 모든 stripe 의 최소 부하를 비교해 전역 최소 담당자를, RELAXED 는 임의의 두 stripe 중 덜 바쁜 쪽을 고른다.
+@Component
+public class ChargerAssignmentEngine {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer assignmentTimer;
+    // 부하가 0 아래로 내려가려 한 횟수 (복원값과 실제 배정/해제가 어긋났다는 신호)
+    private final Counter driftCounter;
+    private final Stripe[] stripes;
+    private final ConcurrentHashMap<UUID, Node> nodes = new ConcurrentHashMap<>();
+    // 복원 중 (미결 건수 조회 ~ 등록) 아직 등록되지 않은 담당자에게 들어온 release 의 가중치 합
+    private final ConcurrentHashMap<UUID, Integer> pendingReleases = new ConcurrentHashMap<>();
+    private volatile boolean restoring;
+
+    public ChargerAssignmentEngine(MeterRegistry meterRegistry,
+                                   @Value("${incident.assignment.stripes:8}") int stripeCount) {
+        this.meterRegistry = meterRegistry;
+        this.assignmentTimer = Timer.builder("incident.assignment.latency")
+                .description("담당자 배정 소요 시간")
+                .register(meterRegistry);
+        this.driftCounter = Counter.builder("incident.assignment.load.drift")
+                .description("0 미만으로 내려가려 해 보정된 담당자 부하 변경 횟수")
+                .register(meterRegistry);
+        this.stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void registerCharger(UUID chargerId) {
+        registerCharger(chargerId, Map.of());
+    }
+
+    // 미결 건수로 복원한 부하를 가진 상태로 등록
+    // 복원 중이면 조회 이후 이 담당자에게 들어온 release 를 빼서, 조회값에는 있었지만 이미 완료된 건이 남지 않게 한다.
+    public void registerCharger(UUID chargerId, Map<Priority, Long> openCounts) {
+        long restored = 0;
+        for (Map.Entry<Priority, Long> openCount : openCounts.entrySet()) {
+            restored += weightOf(openCount.getKey()) * openCount.getValue();
+        }
+        long initialLoad = restored;
+        // release 의 기록과 같은 key lock 안에서 등록해, 등록 직전의 release 가 빠지지 않도록 한다
+        pendingReleases.compute(chargerId, (id, released) -> {
+            nodes.computeIfAbsent(id, key -> newNode(key, initialLoad - (released != null ? released : 0)));
+            return null;
+        });
+    }
+
+    private Node newNode(UUID id, long initialLoad) {
+        Node node = new Node(id, stripes[Math.floorMod(id.hashCode(), stripes.length)]);
+        if (initialLoad < 0) {
+            driftCounter.increment();
+        }
+        node.load = (int) Math.min(Integer.MAX_VALUE, Math.max(0, initialLoad));
+        node.stripe.add(node);
+        node.gauge = Gauge.builder("incident.charger.load", node, n -> n.load)
+                .description("담당자별 미결 인시던트 부하")
+                .tag("charger", id.toString())
+                .strongReference(true)
+                .register(meterRegistry);
+        return node;
+    }
+
+    // 미결 건수 조회 직전에 호출 (endRestore 까지 미등록 담당자의 release 를 기록)
+    public void beginRestore() {
+        pendingReleases.clear();
+        restoring = true;
+    }
+
+    public void endRestore() {
+        restoring = false;
+        pendingReleases.clear();
+    }
+
+    // user-service 목록에서 빠진 담당자는 더 이상 배정하지 않음 (이미 배정된 인시던트는 그대로)
+    public void unregisterCharger(UUID chargerId) {
+        Node node = nodes.remove(chargerId);
+        if (node != null) {
+            node.stripe.remove(node);
+            meterRegistry.remove(node.gauge);
+        }
+    }
+
+    public Set<UUID> chargerIds() {
+        return Set.copyOf(nodes.keySet());
+    }
+
+    // t_incident 의 미결 건수로 부하 복원 (등록된 담당자만, 등록은 registerCharger 로 따로)
+    public void restoreLoad(UUID chargerId, Priority priority, long openCount) {
+        Node node = nodes.get(chargerId);
+        if (node != null) {
+            node.stripe.adjust(node, (int) Math.min(Integer.MAX_VALUE, weightOf(priority) * openCount));
+        }
+    }
+
+    public Optional<UUID> assign(Priority priority) {
+        if (nodes.isEmpty()) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        int weight = weightOf(priority);
+        Stripe first = priority == Priority.URGENT ? leastLoadedStripe() : twoChoiceStripe();
+        UUID chargerId = first.acquire(weight);
+        if (chargerId == null) {
+            // 선택한 stripe 가 비어 있으면 전체에서 다시 탐색
+            chargerId = leastLoadedStripe().acquire(weight);
+        }
+        assignmentTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return Optional.ofNullable(chargerId);
+    }
+
+    public void release(UUID chargerId, Priority priority) {
+        if (chargerId == null) {
+            return;
+        }
+        int weight = weightOf(priority);
+        Node node = nodes.get(chargerId);
+        if (node != null) {
+            release(node, weight);
+        } else if (restoring) {
+            pendingReleases.compute(chargerId, (id, released) -> {
+                Node registered = nodes.get(id);
+                if (registered != null) {
+                    release(registered, weight);
+                    return released;
+                }
+                return released != null ? released + weight : weight;
+            });
+        }
+    }
+
+    private void release(Node node, int weight) {
+        if (!node.stripe.adjust(node, -weight)) {
+            driftCounter.increment();
+        }
+    }
+
+    public int loadOf(UUID chargerId) {
+        Node node = nodes.get(chargerId);
+        return node != null ? node.load : 0;
+    }
+
+    private int weightOf(Priority priority) {
+        return priority == Priority.URGENT ? 3 : 1;
+    }
+
+    private Stripe leastLoadedStripe() {
+        Stripe best = stripes[0];
+        for (int i = 1; i < stripes.length; i++) {
+            if (stripes[i].minLoad < best.minLoad) {
+                best = stripes[i];
+            }
+        }
+        return best;
+    }
+
+    private Stripe twoChoiceStripe() {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(stripes.length);
+        int j = (i + 1 + random.nextInt(stripes.length - 1)) % stripes.length;
+        return stripes[i].minLoad <= stripes[j].minLoad ? stripes[i] : stripes[j];
+    }
+
+    private static final class Node {
+        private final UUID id;
+        private final Stripe stripe;
+        private volatile int load;
+        private int index;
+        private Gauge gauge;
+
+        private Node(UUID id, Stripe stripe) {
+            this.id = id;
+            this.stripe = stripe;
+        }
+    }
+
+    // 부하 기준 인덱스 min-heap (Node.index 로 임의 노드의 부하 변경을 O(log n) 에 반영)
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Node[] heap = new Node[16];
+        private int size;
+        // lock 없이 stripe 를 고르기 위한 최소 부하 스냅샷 (비어 있으면 MAX_VALUE)
+        private volatile int minLoad = Integer.MAX_VALUE;
+
+        void add(Node node) {
+            lock.lock();
+            try {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, size * 2);
+                }
+                heap[size] = node;
+                node.index = size;
+                size++;
+                siftUp(node.index);
+                minLoad = heap[0].load;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Node node) {
+            lock.lock();
+            try {
+                int index = node.index;
+                if (index < 0 || index >= size || heap[index] != node) {
+                    return;
+                }
+                size--;
+                Node last = heap[size];
+                heap[size] = null;
+                node.index = -1;
+                if (index < size) {
+                    place(last, index);
+                    siftDown(index);
+                    siftUp(last.index);
+                }
+                minLoad = size > 0 ? heap[0].load : Integer.MAX_VALUE;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        UUID acquire(int weight) {
+            lock.lock();
+            try {
+                if (size == 0) {
+                    return null;
+                }
+                Node top = heap[0];
+                top.load += weight;
+                siftDown(0);
+                minLoad = heap[0].load;
+                return top.id;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 부하가 0 미만이 되어 0 으로 보정했으면 false
+        boolean adjust(Node node, int delta) {
+            lock.lock();
+            try {
+                if (node.index < 0) {
+                    return true;
+                }
+                int load = node.load + delta;
+                node.load = Math.max(0, load);
+                if (delta < 0) {
+                    siftUp(node.index);
+                } else {
+                    siftDown(node.index);
+                }
+                minLoad = heap[0].load;
+                return load >= 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void siftUp(int index) {
+            Node node = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent].load <= node.load) {
+                    break;
+                }
+                place(heap[parent], index);
+                index = parent;
+            }
+            place(node, index);
+        }
+
+        private void siftDown(int index) {
+            Node node = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                int right = child + 1;
+                if (right < size && heap[right].load < heap[child].load) {
+                    child = right;
+                }
+                if (node.load <= heap[child].load) {
+                    break;
+                }
+                place(heap[child], index);
+                index = child;
+            }
+            place(node, index);
+        }
+
+        private void place(Node node, int index) {
+            heap[index] = node;
+            node.index = index;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.capston_design.fkiller.itoms.service_desk.assignment;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.cache.UserDirectoryCache;
+import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserCreateResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.capston_design.fkiller.itoms.service_desk.repository.IncidentRepository;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardedIncidentQueries;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// 담당자 목록(user-service)과 t_incident 의 미결 건수로 배정 엔진 상태를 재구성
+// 기동 시 한 번 만들고, 이후 주기적으로 담당자 목록을 다시 받아 추가/제거된 담당자만 반영한다.
+@Component
+@RequiredArgsConstructor
+public class ChargerAssignmentLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargerAssignmentLoader.class);
+
+    private final ChargerAssignmentEngine chargerAssignmentEngine;
+    private final ShardedIncidentQueries shardedIncidentQueries;
+    private final UserClient userClient;
+    private final UserDirectoryCache userDirectoryCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Optional<Set<UUID>> chargers = fetchChargers();
+        Set<UUID> registered;
+        chargerAssignmentEngine.beginRestore();
+        try {
+            // 조회 이후 들어온 release 는 엔진이 기록해 두었다가 등록 시 복원값에서 뺀다
+            List<IncidentRepository.ChargerOpenCount> openCounts = shardedIncidentQueries.countOpenByCharger(Status.Incomplete);
+            registered = chargers.orElseGet(() -> {
+                // user-service 가 내려가 있으면 DB 에 남은 담당자 기준으로 배정 (다음 refresh 에서 목록과 맞춘다)
+                Set<UUID> fromRows = new HashSet<>();
+                for (IncidentRepository.ChargerOpenCount openCount : openCounts) {
+                    fromRows.add(openCount.getChargerId());
+                }
+                return fromRows;
+            });
+            registerWithOpenCounts(registered, openCounts);
+        } finally {
+            chargerAssignmentEngine.endRestore();
+        }
+        log.info("Charger assignment state rebuilt - {} chargers ({})",
+                registered.size(), chargers.isPresent() ? "user-service" : "open incidents fallback");
+    }
+
+    @Scheduled(initialDelayString = "${incident.assignment.refresh-millis:300000}",
+            fixedDelayString = "${incident.assignment.refresh-millis:300000}")
+    public synchronized void refresh() {
+        Optional<Set<UUID>> chargers = fetchChargers();
+        if (chargers.isEmpty()) {
+            // 목록을 못 받았으면 현재 상태 유지
+            return;
+        }
+        Set<UUID> current = chargerAssignmentEngine.chargerIds();
+        Set<UUID> removed = new HashSet<>(current);
+        removed.removeAll(chargers.get());
+        Set<UUID> added = new HashSet<>(chargers.get());
+        added.removeAll(current);
+
+        for (UUID chargerId : removed) {
+            chargerAssignmentEngine.unregisterCharger(chargerId);
+        }
+        if (!added.isEmpty()) {
+            chargerAssignmentEngine.beginRestore();
+            try {
+                registerWithOpenCounts(added, shardedIncidentQueries.countOpenByCharger(Status.Incomplete));
+            } finally {
+                chargerAssignmentEngine.endRestore();
+            }
+        }
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            log.info("Charger list refreshed - {} added, {} removed", added.size(), removed.size());
+        }
+    }
+
+    private void registerWithOpenCounts(Set<UUID> chargerIds, List<IncidentRepository.ChargerOpenCount> openCounts) {
+        Map<UUID, Map<Priority, Long>> countsByCharger = new HashMap<>();
+        for (IncidentRepository.ChargerOpenCount openCount : openCounts) {
+            if (chargerIds.contains(openCount.getChargerId())) {
+                countsByCharger.computeIfAbsent(openCount.getChargerId(), id -> new HashMap<>())
+                        .merge(openCount.getPriority(), openCount.getOpenCount(), Long::sum);
+            }
+        }
+        for (UUID chargerId : chargerIds) {
+            chargerAssignmentEngine.registerCharger(chargerId, countsByCharger.getOrDefault(chargerId, Map.of()));
+        }
+    }
+
+    // user-service 에 접근할 수 없으면 empty
+    private Optional<Set<UUID>> fetchChargers() {
+        try {
+            ApiResponse<List<UserCreateResponseDTO>> response = userClient.getChargerUsers();
+            if (response == null || !Boolean.TRUE.equals(response.getIsSuccess()) || response.getResult() == null) {
+                log.warn("UserService returned no charger list");
+                return Optional.empty();
+            }
+            Set<UUID> chargerIds = new HashSet<>();
+            for (UserCreateResponseDTO charger : response.getResult()) {
+                if (charger.getId() != null) {
+                    chargerIds.add(charger.getId());
+                    userDirectoryCache.put(charger.getId(), charger.getName());
+                }
+            }
+            return Optional.of(chargerIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load charger list from UserService: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
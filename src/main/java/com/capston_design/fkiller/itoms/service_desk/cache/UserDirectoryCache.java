@@ -0,0 +1,188 @@
+package com.capston_design.fkiller.itoms.service_desk.cache;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserCreateResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserIdsRequestDTO;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자 UUID -> 이름 캐시 (크기 제한 + TTL)
+// 미스가 난 id 들은 user-service 에 한 번의 배치 요청으로 조회하고, 같은 id 에 대한 동시 미스는 진행 중인 조회 하나로 합쳐진다.
+// user-service 가 돌려주지 않은 id 는 MISSING 으로 짧게 캐시해 (negative-ttl) 매 요청마다 다시 묻지 않는다.
+@Component
+public class UserDirectoryCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDirectoryCache.class);
+
+    // 존재하지 않는 사용자 표시 (resolveAll 결과에서는 제외)
+    private static final String MISSING = "";
+
+    private final UserClient userClient;
+    private final Duration timeout;
+    // user-service 조회는 블로킹 HTTP 이므로 ForkJoinPool.commonPool 대신 전용 풀에서 실행
+    // 큐가 가득 차면 호출 스레드가 직접 조회한다 (CallerRunsPolicy)
+    private final ExecutorService loaderExecutor;
+    private final AsyncLoadingCache<UUID, String> cache;
+
+    @Autowired
+    public UserDirectoryCache(UserClient userClient,
+                              @Value("${user.directory.cache.max-size:10000}") long maxSize,
+                              @Value("${user.directory.cache.ttl:10m}") Duration ttl,
+                              @Value("${user.directory.cache.negative-ttl:1m}") Duration negativeTtl,
+                              @Value("${user.directory.cache.timeout:2s}") Duration timeout,
+                              @Value("${user.directory.cache.loader-threads:4}") int loaderThreads,
+                              @Value("${user.directory.cache.loader-queue:256}") int loaderQueue) {
+        this(userClient, maxSize, ttl, negativeTtl, timeout, newLoaderExecutor(loaderThreads, loaderQueue),
+                Ticker.systemTicker());
+    }
+
+    // 테스트에서 조회 실행기와 시계를 바꿔 끼울 수 있도록 분리
+    UserDirectoryCache(UserClient userClient, long maxSize, Duration ttl, Duration negativeTtl, Duration timeout,
+                       ExecutorService loaderExecutor, Ticker ticker) {
+        this.userClient = userClient;
+        this.timeout = timeout;
+        this.loaderExecutor = loaderExecutor;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<UUID, String>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, String value, long currentTime) {
+                        return (MISSING.equals(value) ? negativeTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, String value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, String value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .executor(loaderExecutor)
+                .buildAsync(new CacheLoader<UUID, String>() {
+                    @Override
+                    public String load(UUID key) {
+                        return fetchNames(Set.of(key)).get(key);
+                    }
+
+                    @Override
+                    public Map<UUID, String> loadAll(Set<? extends UUID> keys) {
+                        return fetchNames(keys);
+                    }
+                });
+    }
+
+    public Optional<String> resolve(UUID userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(resolveAll(List.of(userId)).get(userId));
+    }
+
+    // 한 페이지에 등장하는 모든 id 를 한 번에 조회
+    public Map<UUID, String> resolveAll(Collection<UUID> userIds) {
+        Set<UUID> keys = new HashSet<>();
+        for (UUID userId : userIds) {
+            if (userId != null) {
+                keys.add(userId);
+            }
+        }
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, String> names;
+        try {
+            // 조회가 늦어져도 응답은 timeout 안에 돌려준다 (진행 중인 조회는 끝나면 캐시에 반영)
+            names = cache.getAll(keys).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // user-service 장애/지연 시에는 이름 없이 (null) 응답
+            log.warn("Failed to resolve user names for {} ids: {}", keys.size(), e.toString());
+            return Map.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Map.of();
+        }
+        Map<UUID, String> resolved = new HashMap<>(names.size() * 2);
+        names.forEach((userId, name) -> {
+            if (!MISSING.equals(name)) {
+                resolved.put(userId, name);
+            }
+        });
+        return resolved;
+    }
+
+    // 이미 이름을 알고 있는 경우 (예: 인시던트 생성 시) 캐시에 미리 채워둔다
+    public void put(UUID userId, String name) {
+        if (userId != null && name != null && !MISSING.equals(name)) {
+            cache.put(userId, CompletableFuture.completedFuture(name));
+        }
+    }
+
+    private static ThreadPoolExecutor newLoaderExecutor(int loaderThreads, int loaderQueue) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(loaderThreads, loaderThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(loaderQueue),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "user-directory-loader-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // 대기 중인 만료/축출을 처리한 뒤의 항목 수 (MISSING 포함)
+    long estimatedSize() {
+        cache.synchronous().cleanUp();
+        return cache.synchronous().estimatedSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loaderExecutor.shutdown();
+    }
+
+    private Map<UUID, String> fetchNames(Set<? extends UUID> userIds) {
+        ApiResponse<List<UserCreateResponseDTO>> response =
+                userClient.getUsersByIds(new UserIdsRequestDTO(new ArrayList<>(userIds)));
+        if (response == null || !Boolean.TRUE.equals(response.getIsSuccess()) || response.getResult() == null) {
+            throw new IllegalStateException("UserService로부터 사용자 목록을 불러오지 못했습니다.");
+        }
+        Map<UUID, String> names = new HashMap<>();
+        for (UserCreateResponseDTO user : response.getResult()) {
+            if (user.getId() != null && user.getName() != null) {
+                names.put(user.getId(), user.getName());
+            }
+        }
+        // 응답에 없는 id 는 MISSING 으로 남겨 negative-ttl 동안 다시 조회하지 않는다
+        for (UUID userId : userIds) {
+            names.putIfAbsent(userId, MISSING);
+        }
+        return names;
+    }
+}
@@ -2,9 +2,20 @@ package com.capston_design.fkiller.itoms.service_desk.client;
 
 import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
 import com.capston_design.fkiller.itoms.service_desk.dto.UserCreateResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserIdsRequestDTO;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.PostExchange;
+
+import java.util.List;
 
 public interface UserClient {
     @GetExchange("/api/user/randomRequester")
     ApiResponse<UserCreateResponseDTO> getRandomRequesterUser();
+
+    @GetExchange("/api/user/chargers")
+    ApiResponse<List<UserCreateResponseDTO>> getChargerUsers();
+
+    @PostExchange("/api/user/batch")
+    ApiResponse<List<UserCreateResponseDTO>> getUsersByIds(@RequestBody UserIdsRequestDTO request);
 }
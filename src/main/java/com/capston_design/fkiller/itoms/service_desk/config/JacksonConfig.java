@@ -0,0 +1,16 @@
+package com.capston_design.fkiller.itoms.service_desk.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // 리플렉션 대신 LambdaMetafactory 기반 접근자로 직렬화/역직렬화
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,10 @@
+package com.capston_design.fkiller.itoms.service_desk.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+// 메인 클래스에 두면 @JsonTest 같은 슬라이스 테스트에서도 JPA 메타모델을 요구하므로 분리
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -6,10 +6,14 @@ import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class RestClientConfig {
 
@@ -19,10 +23,18 @@ public class RestClientConfig {
     @Value("${ticket.url}")
     private String ticketUrl;
 
+    // 외부 서비스가 멈춰도 요청/스케줄러 스레드가 무한정 묶이지 않도록 연결/응답 대기 시간 제한
+    @Value("${http.client.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${http.client.read-timeout:5s}")
+    private Duration readTimeout;
+
     @Bean
     public UserClient userClient() {
         RestClient restClient = RestClient.builder()
                 .baseUrl(userServiceUrl)
+                .requestFactory(requestFactory())
                 .build();
         var adapter = RestClientAdapter.create(restClient);
         var factory = HttpServiceProxyFactory.builderFor(adapter).build();
@@ -33,9 +45,19 @@ public class RestClientConfig {
     public TicketClient ticketClient() {
         RestClient restClient = RestClient.builder()
                 .baseUrl(ticketUrl)
+                .requestFactory(requestFactory())
                 .build();
         var adapter = RestClientAdapter.create(restClient);
         var factory = HttpServiceProxyFactory.builderFor(adapter).build();
         return factory.createClient(TicketClient.class);
     }
-}
\ No newline at end of file
+
+    private JdkClientHttpRequestFactory requestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+}
@@ -0,0 +1,118 @@
+package com.capston_design.fkiller.itoms.service_desk.config;
+
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardDataSources;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardRouter;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardRoutingDataSource;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardSchemaVerifier;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    // 버킷 테이블은 설정값 그대로 사용 (샤드 수로부터 계산하지 않는다). 샤드 목록과 맞지 않으면 기동 실패.
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties shardingProperties) {
+        int shardCount = Math.max(1, shardingProperties.getShards().size());
+        String buckets = shardingProperties.getBuckets();
+        if (buckets == null || buckets.isBlank()) {
+            if (shardCount > 1) {
+                throw new IllegalStateException("incident.sharding.buckets must be set when "
+                        + shardCount + " shards are configured (e.g. 0-511:0,512-1023:1)");
+            }
+            return new ShardRouter(1);
+        }
+        return new ShardRouter(ShardRouter.parseBuckets(buckets), shardCount);
+    }
+
+    // ddl-auto 는 기본(0번) 샤드에만 적용되므로, 모든 샤드에 테이블이 있는지 기동 시 확인
+    @Bean
+    public ShardSchemaVerifier shardSchemaVerifier(ShardDataSources shardDataSources) {
+        return new ShardSchemaVerifier(shardDataSources, List.of("t_incident", "t_incident_content"));
+    }
+
+    // 샤드 풀마다 spring.datasource.hikari.* 를 적용하고, 풀 이름을 shard-N 으로 구분해 hikaricp_* 메트릭을 등록
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(DataSourceProperties dataSourceProperties,
+                                             ShardingProperties shardingProperties,
+                                             Environment environment,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> dataSources = new ArrayList<>();
+        if (shardingProperties.getShards().isEmpty()) {
+            dataSources.add(dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build());
+        } else {
+            for (ShardingProperties.Shard properties : shardingProperties.getShards()) {
+                dataSources.add(DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .driverClassName(dataSourceProperties.determineDriverClassName())
+                        .url(properties.getUrl())
+                        .username(properties.getUsername())
+                        .password(properties.getPassword())
+                        .build());
+            }
+        }
+
+        Binder binder = Binder.get(environment);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        for (int shard = 0; shard < dataSources.size(); shard++) {
+            HikariDataSource dataSource = dataSources.get(shard);
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("shard-" + shard);
+            if (registry != null) {
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    @Bean
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(shardDataSources.asTargets());
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.get(0));
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어야 트랜잭션 안에서 샤드를 정할 수 있다
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 기본 db 헬스 체크는 라우팅 DataSource 의 기본(0번) 샤드만 확인하므로, 샤드별 헬스 체크로 대체
+    @Bean
+    public HealthContributor dbHealthContributor(ShardDataSources shardDataSources) {
+        Map<String, HealthContributor> shards = new LinkedHashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            shards.put("shard-" + shard, new DataSourceHealthIndicator(shardDataSources.get(shard)));
+        }
+        return CompositeHealthContributor.fromMap(shards);
+    }
+
+    // 샤드 전체 조회(scatter-gather)용 스레드 풀
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService shardQueryExecutor(ShardRouter shardRouter) {
+        return Executors.newFixedThreadPool(shardRouter.shardCount() * 2);
+    }
+}
@@ -0,0 +1,19 @@
+package com.capston_design.fkiller.itoms.service_desk.config;
+
+import com.capston_design.fkiller.itoms.service_desk.sql.SqlStatementTracker;
+import net.ttddyy.observation.boot.autoconfigure.ProxyDataSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlBudgetConfig {
+
+    // datasource-micrometer 가 만드는 proxy DataSource 에 요청 단위 SQL 집계 리스너 추가
+    @Bean
+    public ProxyDataSourceBuilderCustomizer sqlStatementTrackerCustomizer() {
+        SqlStatementTracker tracker = new SqlStatementTracker();
+        return (builder, dataSource, beanName, dataSourceName) -> builder
+                .listener(tracker)
+                .methodListener(tracker);
+    }
+}
@@ -8,9 +8,15 @@ import com.capston_design.fkiller.itoms.service_desk.dto.TicketCompletedRequestD
 import com.capston_design.fkiller.itoms.service_desk.model.Incident;
 import com.capston_design.fkiller.itoms.service_desk.service.IncidentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/incident")
@@ -19,19 +25,45 @@ public class IncidentController {
     private final IncidentService incidentService;
 
     @PostMapping
-    public ResponseEntity<ApiResponse<IncidentResponse.IncidentCreateResponseDTO>> createIncident(
+    public ResponseEntity<ApiResponse<IncidentResponse.IncidentView>> createIncident(
             @RequestBody IncidentRequest incidentRequest) {
 
         Incident incident = incidentService.createIncident(incidentRequest);
-        var responseDTO = IncidentConverter.toIncidentResponseDTO(incident);
-        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.onSuccess(responseDTO));
+        Map<UUID, String> names = incidentService.resolvePersonNames(List.of(incident));
+        var response = IncidentConverter.toIncidentView(incident, names);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.onSuccess(response));
+    }
+
+    @GetMapping("/{incidentId}")
+    public ResponseEntity<ApiResponse<IncidentResponse.IncidentView>> getIncident(
+            @PathVariable UUID incidentId, WebRequest webRequest) {
+        Incident incident = incidentService.getIncident(incidentId);
+        Map<UUID, String> names = incidentService.resolvePersonNames(List.of(incident));
+        String eTag = IncidentConverter.toETag(incident, names);
+        // If-None-Match 가 일치하면 본문 변환/직렬화 없이 304 반환
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        var response = IncidentConverter.toIncidentView(incidentService.loadContent(incident), names);
+        return ResponseEntity.ok().eTag(eTag).body(ApiResponse.onSuccess(response));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<IncidentResponse.IncidentListView>> getIncidentList(
+            @RequestParam(defaultValue = "0") Integer page,
+            @RequestParam(defaultValue = "20") Integer size) {
+        Page<Incident> incidents = incidentService.getIncidentList(page, size);
+        Map<UUID, String> names = incidentService.resolvePersonNames(incidents);
+        var response = IncidentConverter.toIncidentListView(incidents, names);
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 
     @PostMapping("/v1/ticket/complete")
-    public ResponseEntity<ApiResponse<IncidentResponse.IncidentCreateResponseDTO>> completeIncident(
+    public ResponseEntity<ApiResponse<IncidentResponse.IncidentView>> completeIncident(
             @RequestBody TicketCompletedRequestDTO request) {
         Incident incident = incidentService.completeTicket(request.ticketId(), request.incidentId());
-        var responseDTO = IncidentConverter.toIncidentResponseDTO(incident);
-        return ResponseEntity.ok(ApiResponse.onSuccess(responseDTO));
+        Map<UUID, String> names = incidentService.resolvePersonNames(List.of(incident));
+        var response = IncidentConverter.toIncidentView(incident, names);
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 }
@@ -2,28 +2,48 @@ package com.capston_design.fkiller.itoms.service_desk.converter;
 
 import com.capston_design.fkiller.itoms.service_desk.dto.IncidentResponse;
 import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class IncidentConverter {
 
-    public static IncidentResponse.IncidentCreateResponseDTO toIncidentResponseDTO(Incident incident) {
-        return IncidentResponse.IncidentCreateResponseDTO.builder()
-                .id(incident.getId())
-                .title(incident.getTitle())
-                .content(incident.getContent())
-                .requestDT(incident.getRequestDT())
-                .acceptDT(incident.getAcceptDT())
-                .endDT(incident.getEndDT())
-                .status(incident.getStatus())
-                .priority(incident.getPriority())
-                .ticketByID(incident.getTicketByID())
-                .requesterById(incident.getRequesterById())
-                .creatorById(incident.getCreatorById())
-                .chargerById(incident.getChargerById())
-                .requester(incident.getRequester())
-                .creator(incident.getCreator())
-                .charger(incident.getCharger())
-                .createdAt(incident.getCreatedAt())
-                .updatedAt(incident.getUpdatedAt())
-                .build();
+    // 이름은 UserDirectoryCache 로 조회한 값 (조회 실패 시 null)
+    public static IncidentResponse.IncidentView toIncidentView(Incident incident, Map<UUID, String> names) {
+        return new IncidentResponse.IncidentView(incident, names);
+    }
+
+    public static IncidentResponse.IncidentListView toIncidentListView(Page<Incident> incidents, Map<UUID, String> names) {
+        return new IncidentResponse.IncidentListView(incidents, names);
+    }
+
+    // 인시던트에 등장하는 사람 id 목록 (requester, creator, charger)
+    public static List<UUID> toPersonIds(Iterable<Incident> incidents) {
+        List<UUID> ids = new ArrayList<>();
+        for (Incident incident : incidents) {
+            ids.add(incident.getRequesterById());
+            ids.add(incident.getCreatorById());
+            ids.add(incident.getChargerById());
+        }
+        return ids;
+    }
+
+    // 인시던트 id + 마지막 수정 시각 (+ 조회된 이름) 으로 ETag 생성
+    public static String toETag(Incident incident, Map<UUID, String> names) {
+        LocalDateTime updatedAt = incident.getUpdatedAt() != null ? incident.getUpdatedAt() : incident.getCreatedAt();
+        StringBuilder eTag = new StringBuilder(64).append('"').append(incident.getId());
+        if (updatedAt != null) {
+            eTag.append('-').append(Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC)))
+                    .append(Integer.toHexString(updatedAt.getNano()));
+        }
+        if (!names.isEmpty()) {
+            eTag.append('-').append(Integer.toHexString(names.hashCode()));
+        }
+        return eTag.append('"').toString();
     }
 }
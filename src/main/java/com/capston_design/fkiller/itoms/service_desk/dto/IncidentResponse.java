@@ -1,20 +1,38 @@
 package com.capston_design.fkiller.itoms.service_desk.dto;
 
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer.DateTimeStringSerializer;
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer.IncidentListViewSerializer;
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.serializer.IncidentViewSerializer;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
 import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
 import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
-import com.fasterxml.jackson.annotation.JsonFormat;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class IncidentResponse {
 
+    // 응답 본문: DTO 로 복사하지 않고 엔티티 + 이름 맵을 바로 직렬화 (형식/문서는 아래 DTO 와 동일)
+    @JsonSerialize(using = IncidentViewSerializer.class)
+    @Schema(implementation = IncidentCreateResponseDTO.class)
+    public record IncidentView(Incident incident, Map<UUID, String> names) {
+    }
+
+    @JsonSerialize(using = IncidentListViewSerializer.class)
+    @Schema(implementation = IncidentListResponseDTO.class)
+    public record IncidentListView(Page<Incident> incidents, Map<UUID, String> names) {
+    }
+
     @Builder
     @Getter
     @NoArgsConstructor
@@ -22,6 +40,8 @@ public class IncidentResponse {
     public static class IncidentCreateResponseDTO{
         private UUID id;
         private String title;
+        // 본문은 상세 조회에서만 포함
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private String content;
         private LocalDateTime requestDT;
         private LocalDateTime acceptDT;
@@ -36,10 +56,23 @@ public class IncidentResponse {
         private String creator;
         private String charger;
 
-        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        @JsonSerialize(using = DateTimeStringSerializer.class)
         private LocalDateTime createdAt;
 
-        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        @JsonSerialize(using = DateTimeStringSerializer.class)
         private LocalDateTime updatedAt;
     }
+
+    @Builder
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IncidentListResponseDTO{
+        private List<IncidentCreateResponseDTO> incidentList;
+        private Integer listSize;
+        private Integer totalPage;
+        private Long totalElements;
+        private Boolean isFirst;
+        private Boolean isLast;
+    }
 }
\ No newline at end of file
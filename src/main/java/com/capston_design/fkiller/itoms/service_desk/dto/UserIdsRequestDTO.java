@@ -0,0 +1,8 @@
+package com.capston_design.fkiller.itoms.service_desk.dto;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public record UserIdsRequestDTO(
+        Collection<UUID> userIds
+) {}
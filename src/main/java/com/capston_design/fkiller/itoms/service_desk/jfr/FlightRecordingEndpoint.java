@@ -0,0 +1,157 @@
+package com.capston_design.fkiller.itoms.service_desk.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// 크기/기간 제한이 있는 연속 JFR 레코딩을 시작하거나 파일로 덤프하는 actuator endpoint
+// 쓰기 작업이 있으므로 웹에는 노출하지 않고 JMX 로만 노출한다 (management.endpoints.jmx.exposure.include)
+//   status        : 상태 조회
+//   action(start) : 레코딩 시작 (이미 실행 중이면 그대로 유지)
+//   action(dump)  : 현재까지의 레코딩을 덤프 디렉터리에 저장 (최근 dump-retention 개만 유지)
+// 연속 레코딩은 항상 켜 두는 용도라 종료 작업은 두지 않는다.
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String FILE_PREFIX = "service-desk-";
+    private static final String FILE_SUFFIX = ".jfr";
+
+    private final boolean startOnBoot;
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Path dumpDirectory;
+    private final int dumpRetention;
+
+    private Recording recording;
+
+    public FlightRecordingEndpoint(@Value("${incident.jfr.start-on-boot:false}") boolean startOnBoot,
+                                   @Value("${incident.jfr.settings:default}") String settings,
+                                   @Value("${incident.jfr.max-age:30m}") Duration maxAge,
+                                   @Value("${incident.jfr.max-size-mb:50}") long maxSizeMb,
+                                   @Value("${incident.jfr.dump-dir:${java.io.tmpdir}}") String dumpDirectory,
+                                   @Value("${incident.jfr.dump-retention:3}") int dumpRetention) {
+        this.startOnBoot = startOnBoot;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.dumpDirectory = Path.of(dumpDirectory);
+        this.dumpRetention = Math.max(1, dumpRetention);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnBoot() {
+        if (startOnBoot) {
+            start();
+        }
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        status.put("settings", settings);
+        status.put("maxAge", maxAge.toString());
+        status.put("maxSizeBytes", maxSizeBytes);
+        status.put("dumpRetention", dumpRetention);
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> action(@Selector String action) {
+        switch (action) {
+            case "start" -> start();
+            case "dump" -> {
+                Path file = dump();
+                Map<String, Object> result = status();
+                result.put("file", file.toAbsolutePath().toString());
+                return result;
+            }
+            default -> throw new IllegalArgumentException("Unknown flight recording action: " + action);
+        }
+        return status();
+    }
+
+    private synchronized void start() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return;
+        }
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+            newRecording.setName("service-desk-continuous");
+            newRecording.setToDisk(true);
+            newRecording.setMaxAge(maxAge);
+            newRecording.setMaxSize(maxSizeBytes);
+            newRecording.enable(IncidentStageEvent.NAME);
+            newRecording.start();
+            recording = newRecording;
+            log.info("Continuous flight recording started - settings: {}, maxAge: {}, maxSize: {} bytes", settings, maxAge, maxSizeBytes);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 레코딩을 시작하지 못했습니다.", e);
+        }
+    }
+
+    private synchronized Path dump() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("실행 중인 JFR 레코딩이 없습니다.");
+        }
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve(FILE_PREFIX + LocalDateTime.now().format(FILE_TIME) + FILE_SUFFIX);
+            recording.dump(file);
+            log.info("Flight recording dumped to {}", file);
+            deleteOldDumps();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 파일 이름의 시각 순으로 정렬해 오래된 덤프부터 삭제
+    private void deleteOldDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            dumps = files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+        for (int i = 0; i < dumps.size() - dumpRetention; i++) {
+            Files.deleteIfExists(dumps.get(i));
+            log.info("Deleted old flight recording dump {}", dumps.get(i));
+        }
+    }
+}
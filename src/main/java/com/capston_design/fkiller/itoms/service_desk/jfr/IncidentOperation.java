@@ -0,0 +1,15 @@
+package com.capston_design.fkiller.itoms.service_desk.jfr;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 붙은 메서드 전체를 IncidentStageEvent 의 total 단계로 기록 (IncidentStageAspect)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IncidentOperation {
+
+    // IncidentStageEvent.operation 값
+    String value();
+}
@@ -0,0 +1,87 @@
+package com.capston_design.fkiller.itoms.service_desk.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+// .jfr 파일을 읽어 작업/단계별 지연 분포와, 같은 구간의 GC 정지 / 락 경합 / 소켓 대기 합계를 출력하는 오프라인 분석기
+// 사용법: ./gradlew analyzeRecording -Precording=/path/to/service-desk.jfr
+public class IncidentRecordingAnalyzer {
+
+    private static final Map<String, String> CONTEXT_EVENTS = new LinkedHashMap<>();
+
+    static {
+        CONTEXT_EVENTS.put("jdk.GCPhasePause", "GC pause");
+        CONTEXT_EVENTS.put("jdk.JavaMonitorEnter", "Monitor contention");
+        CONTEXT_EVENTS.put("jdk.ThreadPark", "Thread park (pool wait)");
+        CONTEXT_EVENTS.put("jdk.SocketRead", "Socket read");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 || args[0].isBlank()) {
+            System.err.println("Usage: IncidentRecordingAnalyzer <recording.jfr>");
+            System.exit(1);
+        }
+
+        Map<String, List<Long>> stageNanos = new TreeMap<>();
+        Map<String, long[]> contextTotals = new LinkedHashMap<>();
+        for (String name : CONTEXT_EVENTS.keySet()) {
+            contextTotals.put(name, new long[2]);
+        }
+
+        try (RecordingFile recordingFile = new RecordingFile(Path.of(args[0]))) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                String eventName = event.getEventType().getName();
+                long nanos = event.getDuration().toNanos();
+                if (IncidentStageEvent.NAME.equals(eventName)) {
+                    String key = event.getString("operation") + " / " + event.getString("stage");
+                    stageNanos.computeIfAbsent(key, k -> new ArrayList<>()).add(nanos);
+                } else {
+                    long[] totals = contextTotals.get(eventName);
+                    if (totals != null) {
+                        totals[0]++;
+                        totals[1] += nanos;
+                    }
+                }
+            }
+        }
+
+        System.out.printf("%-32s %8s %10s %10s %10s %10s %10s%n", "operation / stage", "count", "mean(ms)", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Map.Entry<String, List<Long>> entry : stageNanos.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).sorted().toArray();
+            long sum = 0;
+            for (long value : sorted) {
+                sum += value;
+            }
+            System.out.printf("%-32s %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                    entry.getKey(),
+                    sorted.length,
+                    toMillis(sum / sorted.length),
+                    toMillis(percentile(sorted, 0.50)),
+                    toMillis(percentile(sorted, 0.95)),
+                    toMillis(percentile(sorted, 0.99)),
+                    toMillis(sorted[sorted.length - 1]));
+        }
+
+        System.out.println();
+        System.out.printf("%-32s %8s %12s%n", "context", "count", "total(ms)");
+        for (Map.Entry<String, long[]> entry : contextTotals.entrySet()) {
+            System.out.printf("%-32s %8d %12.2f%n",
+                    CONTEXT_EVENTS.get(entry.getKey()), entry.getValue()[0], toMillis(entry.getValue()[1]));
+        }
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) Duration.ofMillis(1).toNanos();
+    }
+}
@@ -0,0 +1,38 @@
+package com.capston_design.fkiller.itoms.service_desk.jfr;
+
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// @IncidentOperation 메서드의 total 단계를 기록
+// @Transactional 보다 바깥에서 실행되도록 가장 높은 우선순위를 주어, 커밋(flush 포함)까지 total 에 들어간다.
+// 이 순서에서는 ExposeInvocationInterceptor 보다 먼저 실행되어 어노테이션 인자 바인딩을 쓸 수 없으므로 시그니처에서 읽는다.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IncidentStageAspect {
+
+    @Around("@annotation(com.capston_design.fkiller.itoms.service_desk.jfr.IncidentOperation)")
+    public Object recordTotal(ProceedingJoinPoint joinPoint) throws Throwable {
+        IncidentOperation incidentOperation = ((MethodSignature) joinPoint.getSignature()).getMethod()
+                .getAnnotation(IncidentOperation.class);
+        IncidentStageEvent totalEvent = IncidentStageEvent.start(incidentOperation.value(), IncidentStageEvent.TOTAL);
+        Incident incident = null;
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof Incident returned) {
+                incident = returned;
+            }
+            return result;
+        } finally {
+            // 실패한 경우에는 id/priority 없이 기록
+            totalEvent.finish(incident != null ? incident.getId() : null,
+                    incident != null ? incident.getPriority() : null);
+        }
+    }
+}
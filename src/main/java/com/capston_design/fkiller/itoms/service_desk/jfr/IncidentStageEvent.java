@@ -0,0 +1,48 @@
+package com.capston_design.fkiller.itoms.service_desk.jfr;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import jdk.jfr.*;
+
+import java.util.UUID;
+
+// 인시던트 처리 단계별 JFR 이벤트 (지속 시간은 JFR 이 begin/end 로 기록)
+// 레코딩에서 비활성화되어 있으면 shouldCommit() 이 false 라 필드 채우기/문자열 변환 비용이 없다.
+@Name(IncidentStageEvent.NAME)
+@Label("Incident Stage")
+@Category({"ITOMS", "Service Desk"})
+@Description("IncidentService 작업의 단계별 소요 시간")
+@StackTrace(false)
+public class IncidentStageEvent extends Event {
+
+    public static final String NAME = "com.capston_design.fkiller.itoms.IncidentStage";
+    public static final String TOTAL = "total";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Incident Id")
+    String incidentId;
+
+    @Label("Priority")
+    String priority;
+
+    public static IncidentStageEvent start(String operation, String stage) {
+        IncidentStageEvent event = new IncidentStageEvent();
+        event.operation = operation;
+        event.stage = stage;
+        event.begin();
+        return event;
+    }
+
+    public void finish(UUID incidentId, Priority priority) {
+        end();
+        if (shouldCommit()) {
+            this.incidentId = incidentId != null ? incidentId.toString() : null;
+            this.priority = priority != null ? priority.name() : null;
+            commit();
+        }
+    }
+}
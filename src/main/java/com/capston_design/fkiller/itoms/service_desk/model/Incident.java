@@ -1,6 +1,8 @@
 package com.capston_design.fkiller.itoms.service_desk.model;
 
 import com.capston_design.fkiller.itoms.service_desk.model.common.BaseEntity;
+import com.capston_design.fkiller.itoms.service_desk.model.converter.PriorityConverter;
+import com.capston_design.fkiller.itoms.service_desk.model.converter.StatusConverter;
 import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
 import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
 import jakarta.persistence.*;
@@ -9,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.GenericGenerator;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -19,7 +22,7 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class Incident extends BaseEntity {
+public class Incident extends BaseEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -31,26 +34,39 @@ public class Incident extends BaseEntity {
         }
     }
 
+    // 샤드 라우팅을 위해 id 를 저장 전에 미리 할당하므로, 신규 여부는 생성 시각으로 판단 (불필요한 select 방지)
+    @Override
+    @Transient
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+
     private String title;
+
+    // 본문은 t_incident_content 에 저장하고, 상세 조회 시에만 채워진다
+    @Transient
     private String content;
 
     private LocalDateTime requestDT;
     private LocalDateTime acceptDT;
     private LocalDateTime endDT;
 
-    @Enumerated(EnumType.STRING)
+    // enum 은 고정 코드(tinyint)로 저장
+    @Convert(converter = StatusConverter.class)
+    @Column(columnDefinition = "tinyint")
     private Status status;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = PriorityConverter.class)
+    @Column(columnDefinition = "tinyint")
     private Priority priority;
 
+    // SLA 마감 초과로 에스컬레이션 되었는지 여부
+    private Boolean escalated;
+
+    // 사람은 id 만 저장하고, 이름은 조회 시점에 UserDirectoryCache 로 해석
     private UUID ticketByID;
     private UUID requesterById;
     private UUID creatorById;
     private UUID chargerById;
-
-    private String requester;
-    private String creator;
-    private String charger;
 }
 
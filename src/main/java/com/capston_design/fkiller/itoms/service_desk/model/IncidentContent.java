@@ -0,0 +1,50 @@
+package com.capston_design.fkiller.itoms.service_desk.model;
+
+import com.capston_design.fkiller.itoms.service_desk.model.converter.CompressedStringConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+// 인시던트 본문 (t_incident 행을 좁게 유지하기 위해 별도 테이블, 인시던트와 같은 id 를 공유)
+// 본문이 필요한 상세 조회에서만 읽는다.
+@Entity
+@Table(name = "t_incident_content")
+@Getter
+@Setter
+@NoArgsConstructor
+public class IncidentContent implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Convert(converter = CompressedStringConverter.class)
+    @Column(columnDefinition = "mediumblob")
+    private String content;
+
+    // id 를 직접 할당하므로 save() 시 select 없이 insert 하도록 신규 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public IncidentContent(UUID id, String content) {
+        this.id = id;
+        this.content = content;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,92 @@
+package com.capston_design.fkiller.itoms.service_desk.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// 문자열 <-> (1 byte 헤더 + 본문) 바이트 배열
+// 일정 길이 이상이고 실제로 줄어드는 경우에만 deflate 로 압축한다. 헤더 0 = UTF-8 원문, 1 = deflate.
+@Converter
+public class CompressedStringConverter implements AttributeConverter<String, byte[]> {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+    private static final int COMPRESS_THRESHOLD = 256;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= COMPRESS_THRESHOLD) {
+            byte[] compressed = deflate(raw);
+            if (compressed.length < raw.length) {
+                return withHeader(DEFLATE, compressed);
+            }
+        }
+        return withHeader(RAW, raw);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        byte[] body = Arrays.copyOfRange(data, 1, data.length);
+        if (data[0] == DEFLATE) {
+            body = inflate(body);
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] withHeader(byte header, byte[] body) {
+        byte[] data = new byte[body.length + 1];
+        data[0] = header;
+        System.arraycopy(body, 0, data, 1, body.length);
+        return data;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed content");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Invalid compressed content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.capston_design.fkiller.itoms.service_desk.model.converter;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Priority <-> tinyint 코드
+@Converter
+public class PriorityConverter implements AttributeConverter<Priority, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(Priority priority) {
+        return priority != null ? (byte) priority.getCode() : null;
+    }
+
+    @Override
+    public Priority convertToEntityAttribute(Byte code) {
+        return code != null ? Priority.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.capston_design.fkiller.itoms.service_desk.model.converter;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Status <-> tinyint 코드
+@Converter
+public class StatusConverter implements AttributeConverter<Status, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(Status status) {
+        return status != null ? (byte) status.getCode() : null;
+    }
+
+    @Override
+    public Status convertToEntityAttribute(Byte code) {
+        return code != null ? Status.fromCode(code) : null;
+    }
+}
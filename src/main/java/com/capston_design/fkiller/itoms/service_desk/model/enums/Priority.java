@@ -3,8 +3,19 @@ package com.capston_design.fkiller.itoms.service_desk.model.enums;
 import java.util.Arrays;
 
 public enum Priority {
-    URGENT,
-    RELAXED;
+    // code 는 DB 에 저장되는 값이므로 한 번 정하면 바꾸지 않는다 (ordinal 과 무관)
+    URGENT(1),
+    RELAXED(2);
+
+    private final int code;
+
+    Priority(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
 
     public static Priority from(String value) {
         return Arrays.stream(values())
@@ -12,4 +23,13 @@ public enum Priority {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Unknown category: " + value));
     }
+
+    public static Priority fromCode(int code) {
+        for (Priority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown priority code: " + code);
+    }
 }
@@ -3,7 +3,18 @@ package com.capston_design.fkiller.itoms.service_desk.model.enums;
 import java.util.Arrays;
 
 public enum Status {
-    Completed, Incomplete;
+    // code 는 DB 에 저장되는 값이므로 한 번 정하면 바꾸지 않는다 (ordinal 과 무관)
+    Completed(1), Incomplete(2);
+
+    private final int code;
+
+    Status(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
 
     public static Status from(String value) {
         return Arrays.stream(values())
@@ -11,4 +22,13 @@ public enum Status {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Unknown category: " + value));
     }
+
+    public static Status fromCode(int code) {
+        for (Status status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown status code: " + code);
+    }
 }
@@ -0,0 +1,10 @@
+package com.capston_design.fkiller.itoms.service_desk.repository;
+
+import com.capston_design.fkiller.itoms.service_desk.model.IncidentContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface IncidentContentRepository extends JpaRepository<IncidentContent, UUID> {
+
+}
@@ -1,10 +1,52 @@
 package com.capston_design.fkiller.itoms.service_desk.repository;
 
 import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface IncidentRepository extends JpaRepository<Incident, UUID> {
 
+    @Query("select i.chargerById as chargerId, i.priority as priority, count(i) as openCount " +
+            "from Incident i " +
+            "where i.status = :status and i.chargerById is not null " +
+            "group by i.chargerById, i.priority")
+    List<ChargerOpenCount> countOpenByCharger(@Param("status") Status status);
+
+    @Query("select i.id as id, i.priority as priority, i.requestDT as requestDT " +
+            "from Incident i " +
+            "where i.status = :status and (i.escalated is null or i.escalated = false)")
+    List<OpenDeadline> findOpenDeadlines(@Param("status") Status status);
+
+    // 에스컬레이션 대상 행을 잠가서, update 전에 완료/에스컬레이션되어 대상에서 빠지는 일이 없게 한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i.id from Incident i " +
+            "where i.id in :ids and i.status = :status and (i.escalated is null or i.escalated = false)")
+    List<UUID> lockEscalatable(@Param("ids") Collection<UUID> ids, @Param("status") Status status);
+
+    @Modifying
+    @Query("update Incident i set i.escalated = true where i.id in :ids")
+    int markEscalated(@Param("ids") Collection<UUID> ids);
+
+    interface ChargerOpenCount {
+        UUID getChargerId();
+        Priority getPriority();
+        Long getOpenCount();
+    }
+
+    interface OpenDeadline {
+        UUID getId();
+        Priority getPriority();
+        LocalDateTime getRequestDT();
+    }
 }
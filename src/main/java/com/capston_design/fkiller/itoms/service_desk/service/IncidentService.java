@@ -1,20 +1,37 @@
 package com.capston_design.fkiller.itoms.service_desk.service;
 
 import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.code.status.ErrorStatus;
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.exception.GeneralException;
+import com.capston_design.fkiller.itoms.service_desk.assignment.ChargerAssignmentEngine;
+import com.capston_design.fkiller.itoms.service_desk.cache.UserDirectoryCache;
 import com.capston_design.fkiller.itoms.service_desk.client.TicketClient;
 import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
+import com.capston_design.fkiller.itoms.service_desk.converter.IncidentConverter;
 import com.capston_design.fkiller.itoms.service_desk.dto.*;
+import com.capston_design.fkiller.itoms.service_desk.jfr.IncidentOperation;
+import com.capston_design.fkiller.itoms.service_desk.jfr.IncidentStageEvent;
 import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.model.IncidentContent;
 import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
 import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.capston_design.fkiller.itoms.service_desk.repository.IncidentContentRepository;
 import com.capston_design.fkiller.itoms.service_desk.repository.IncidentRepository;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardContext;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardRouter;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardedIncidentQueries;
+import com.capston_design.fkiller.itoms.service_desk.sla.SlaEscalationScheduler;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -23,64 +40,173 @@ public class IncidentService {
 
     private static final Logger log = LoggerFactory.getLogger(IncidentService.class);
 
+    // JFR 이벤트의 operation 값
+    private static final String OP_CREATE = "createIncident";
+    private static final String OP_COMPLETE = "completeTicket";
+
+    // 목록 조회 제한
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_DEPTH = 10_000;
+
     private final IncidentRepository incidentRepository;
+    private final IncidentContentRepository incidentContentRepository;
     private final UserClient userClient;
     private final TicketClient ticketClient;
+    private final UserDirectoryCache userDirectoryCache;
+    private final ChargerAssignmentEngine chargerAssignmentEngine;
+    private final ShardRouter shardRouter;
+    private final ShardedIncidentQueries shardedIncidentQueries;
+    private final SlaEscalationScheduler slaEscalationScheduler;
 
+    @IncidentOperation(OP_CREATE)
     @Transactional
     public Incident createIncident(IncidentRequest incidentRequest) {
-
         Incident incident = new Incident();
+        // 샤드를 정하기 위해 id 를 먼저 할당
+        incident.setId(UUID.randomUUID());
+        ShardContext.route(shardRouter.shardOf(incident.getId()));
 
         incident.setTitle(incidentRequest.title());
         incident.setContent(incidentRequest.content());
 
         incident.setRequestDT(LocalDateTime.now()); // 요청 시간
         incident.setStatus(Status.Incomplete);      // 초기 상태
+        incident.setEscalated(false);
         incident.setPriority(Priority.from(incidentRequest.priority()));
         //String createrById = request.getHeader("X-User-Id");
         //String creater = request.getHeader("X-User-Name");
 
+        IncidentStageEvent stageEvent = IncidentStageEvent.start(OP_CREATE, "user-lookup");
         ApiResponse<UserCreateResponseDTO> userResponse = userClient.getRandomRequesterUser();
+        stageEvent.finish(incident.getId(), incident.getPriority());
         if (userResponse == null || !Boolean.TRUE.equals(userResponse.getIsSuccess())
                 || userResponse.getResult() == null) {
             throw new IllegalStateException("UserService로부터 랜덤 유저를 불러오지 못했습니다.");
         }
         UserCreateResponseDTO user = userResponse.getResult();
 
-        incident.setRequester(user.getName());
+        // 이름은 저장하지 않고 조회 시점에 캐시로 해석
         incident.setRequesterById(user.getId());
-
-        incidentRepository.save(incident);
+        userDirectoryCache.put(user.getId(), user.getName());
 
         //Ticket 생성 요청
         CreateTicketRequestDTO ticketRequest = new CreateTicketRequestDTO(
                 incident.getId(),
                 new RequesterDTO(user.getId().toString(), user.getName())
         );
+        stageEvent = IncidentStageEvent.start(OP_CREATE, "ticket-create");
         CreateTicketResponseDTO ticketResponse = ticketClient.createTicket(ticketRequest);
+        stageEvent.finish(incident.getId(), incident.getPriority());
 
-        //ticketId 저장 후 재저장
         incident.setTicketByID(ticketResponse.getTicketId());
-        return incidentRepository.save(incident);
+
+        // 담당자 자동 배정 (롤백되면 부하 원복)
+        Priority priority = incident.getPriority();
+        stageEvent = IncidentStageEvent.start(OP_CREATE, "assign");
+        chargerAssignmentEngine.assign(priority).ifPresent(chargerId -> {
+            incident.setChargerById(chargerId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        chargerAssignmentEngine.release(chargerId, priority);
+                    }
+                }
+            });
+        });
+        stageEvent.finish(incident.getId(), priority);
+
+        // 커밋된 인시던트만 SLA 마감 등록
+        UUID incidentId = incident.getId();
+        LocalDateTime requestDT = incident.getRequestDT();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                slaEscalationScheduler.register(incidentId, priority, requestDT);
+            }
+        });
+
+        // 티켓 id 와 담당자를 모두 채운 뒤 한 번만 저장 (incident / content INSERT 만, 이후 UPDATE 없음)
+        stageEvent = IncidentStageEvent.start(OP_CREATE, "persist");
+        incidentRepository.save(incident);
+        if (incident.getContent() != null) {
+            incidentContentRepository.save(new IncidentContent(incident.getId(), incident.getContent()));
+        }
+        // 쓰기 지연 없이 이 단계 안에서 INSERT 가 실행되도록 flush
+        incidentRepository.flush();
+        stageEvent.finish(incidentId, priority);
+        return incident;
     }
 
+    @Transactional(readOnly = true)
+    public Incident getIncident(UUID incidentId) {
+        ShardContext.route(shardRouter.shardOf(incidentId));
+        // 본문은 ETag 비교 후 200 응답일 때만 loadContent 로 읽는다 (304 는 본문 SELECT 없음)
+        return incidentRepository.findById(incidentId)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.INCIDENT_NOT_FOUND));
+    }
+
+    // 상세 조회 응답에 본문 테이블 내용을 채운다
+    @Transactional(readOnly = true)
+    public Incident loadContent(Incident incident) {
+        ShardContext.route(shardRouter.shardOf(incident.getId()));
+        incidentContentRepository.findById(incident.getId())
+                .ifPresent(incidentContent -> incident.setContent(incidentContent.getContent()));
+        return incident;
+    }
 
+    // 모든 샤드에서 병렬 조회 후 병합 (샤드별 트랜잭션은 ShardedIncidentQueries 에서 연다)
+    // 샤드마다 앞쪽 (page + 1) * size 건을 읽으므로 크기와 깊이를 제한
+    public Page<Incident> getIncidentList(Integer page, Integer size) {
+        if (page == null || size == null || page < 0 || size < 1 || size > MAX_PAGE_SIZE
+                || (long) (page + 1) * size > MAX_PAGE_DEPTH) {
+            throw new GeneralException(ErrorStatus.INCIDENT_PAGE_OUT_OF_RANGE);
+        }
+        return shardedIncidentQueries.findPage(page, size);
+    }
+
+    // 페이지 내 모든 사람 id 를 한 번의 배치 조회로 이름 해석
+    public Map<UUID, String> resolvePersonNames(Iterable<Incident> incidents) {
+        return userDirectoryCache.resolveAll(IncidentConverter.toPersonIds(incidents));
+    }
+
+    @IncidentOperation(OP_COMPLETE)
     @Transactional
     public Incident completeTicket(UUID ticketId, UUID incidentId) {
+        ShardContext.route(shardRouter.shardOf(incidentId));
+
+        IncidentStageEvent stageEvent = IncidentStageEvent.start(OP_COMPLETE, "load");
         Incident incident = incidentRepository.findById(incidentId)
             .orElseThrow(() -> new IllegalArgumentException("Incident not found with id: " + incidentId));
+        Priority priority = incident.getPriority();
+        stageEvent.finish(incidentId, priority);
 
+        // 이미 완료된 인시던트를 다시 완료해도 담당자 부하가 중복 차감되지 않도록 확인
+        boolean wasOpen = incident.getStatus() != Status.Completed;
         incident.setStatus(Status.Completed);
         incident.setEndDT(LocalDateTime.now());
-        
-        Incident savedIncident = incidentRepository.save(incident);
-        log.info("Incident completed successfully - Incident ID: {}, Title: {}, Completed by: {}, Completed at: {}", 
-            savedIncident.getId(), 
+
+        // 커밋 후 SLA 마감 취소 및 담당자 부하 차감
+        UUID chargerId = incident.getChargerById();
+        if (wasOpen) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    slaEscalationScheduler.cancel(incidentId);
+                    chargerAssignmentEngine.release(chargerId, priority);
+                }
+            });
+        }
+
+        stageEvent = IncidentStageEvent.start(OP_COMPLETE, "persist");
+        Incident savedIncident = incidentRepository.saveAndFlush(incident);
+        stageEvent.finish(incidentId, priority);
+        log.info("Incident completed successfully - Incident ID: {}, Title: {}, Completed by: {}, Completed at: {}",
+            savedIncident.getId(),
             savedIncident.getTitle(),
-            savedIncident.getCharger(),
+            savedIncident.getChargerById(),
             savedIncident.getEndDT());
-        
+
         return savedIncident;
     }
 }
@@ -0,0 +1,48 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+// 현재 스레드가 사용할 샤드 번호
+// DataSource 는 LazyConnectionDataSourceProxy 로 감싸져 있어서 첫 SQL 실행 시점에 커넥션을 얻으므로,
+// 트랜잭션 안에서 route() 를 호출해도 해당 트랜잭션 전체가 그 샤드로 간다.
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    // 트랜잭션 안에서 호출하면 커밋/롤백 이후 자동으로 해제
+    public static void route(int shard) {
+        CURRENT.set(shard);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    CURRENT.remove();
+                }
+            });
+        }
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
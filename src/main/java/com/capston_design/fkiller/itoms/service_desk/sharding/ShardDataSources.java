@@ -0,0 +1,42 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 샤드별 커넥션 풀 (인덱스 = 샤드 번호)
+// 빈 종료 시 모든 풀을 닫는다.
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<HikariDataSource> dataSources;
+
+    public ShardDataSources(List<HikariDataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    public HikariDataSource get(int shard) {
+        return dataSources.get(shard);
+    }
+
+    public int size() {
+        return dataSources.size();
+    }
+
+    // ShardRoutingDataSource 의 targetDataSources 형태
+    public Map<Object, Object> asTargets() {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < dataSources.size(); shard++) {
+            targets.put(shard, dataSources.get(shard));
+        }
+        return targets;
+    }
+
+    @Override
+    public void close() {
+        for (HikariDataSource dataSource : dataSources) {
+            dataSource.close();
+        }
+    }
+}
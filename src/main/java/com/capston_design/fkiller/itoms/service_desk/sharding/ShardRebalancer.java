@@ -0,0 +1,163 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// 버킷 테이블 변경(샤드 추가, 단일 DB -> 샤딩 전환) 시 기존 행을 새 테이블 기준 위치로 옮기는 오프라인 도구
+// 각 샤드의 t_incident 를 훑어 새 테이블에서 다른 샤드로 가야 하는 행을 t_incident_content 와 함께 옮긴다.
+// 행의 현재 위치를 기준으로 하므로, 중간에 멈춰도 다시 실행하면 남은 행만 옮긴다.
+//
+// 순서: 1) 새 샤드에 t_incident_schema.sql 적용  2) 애플리케이션 중지  3) 기본은 건수만 출력 (dry-run) 으로 확인
+//       4) -Papply=true 로 이동  5) incident.sharding.shards / buckets 를 새 값으로 바꿔 기동
+// 사용법: ./gradlew rebalanceShards -Pbuckets=0-511:0,512-1023:1 -PshardUrls=jdbc:mysql://db0/service_desk,jdbc:mysql://db1/service_desk
+//         -PdbUser=... -PdbPassword=... [-Papply=true]
+public class ShardRebalancer {
+
+    private static final int BATCH_SIZE = 500;
+    private static final List<String> TABLES = List.of("t_incident", "t_incident_content");
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 4 || args[0].isBlank() || args[1].isBlank()) {
+            System.err.println("Usage: ShardRebalancer <buckets> <url0,url1,...> <user> <password> [apply]");
+            System.exit(1);
+        }
+        String[] urls = args[1].split(",");
+        ShardRouter router = new ShardRouter(ShardRouter.parseBuckets(args[0]), urls.length);
+        boolean apply = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (String url : urls) {
+                Connection connection = DriverManager.getConnection(url.trim(), args[2], args[3]);
+                connection.setAutoCommit(false);
+                connections.add(connection);
+            }
+            for (int source = 0; source < connections.size(); source++) {
+                Map<Integer, List<Object>> moves = plan(connections.get(source), source, router);
+                for (Map.Entry<Integer, List<Object>> move : moves.entrySet()) {
+                    System.out.printf("shard-%d -> shard-%d : %d rows%n", source, move.getKey(), move.getValue().size());
+                    if (apply) {
+                        move(connections.get(source), connections.get(move.getKey()), move.getValue());
+                    }
+                }
+            }
+            if (!apply) {
+                System.out.println("dry-run: no rows moved (pass apply=true to move)");
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    // 이 샤드에 있는 행 중 새 테이블에서 다른 샤드로 가야 하는 id (대상 샤드별)
+    private static Map<Integer, List<Object>> plan(Connection connection, int shard, ShardRouter router) throws SQLException {
+        Map<Integer, List<Object>> moves = new TreeMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id FROM t_incident")) {
+            while (rows.next()) {
+                Object id = rows.getObject(1);
+                int target = router.shardOf(toUuid(id));
+                if (target != shard) {
+                    moves.computeIfAbsent(target, key -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+        connection.commit();
+        return moves;
+    }
+
+    // 대상 샤드에 먼저 커밋한 뒤 원래 샤드에서 삭제 (대상에 이미 있는 행은 다시 넣지 않는다)
+    private static void move(Connection source, Connection target, List<Object> ids) throws SQLException {
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Object> batch = ids.subList(from, Math.min(ids.size(), from + BATCH_SIZE));
+            for (String table : TABLES) {
+                copy(source, target, table, batch);
+            }
+            target.commit();
+            for (String table : TABLES) {
+                try (PreparedStatement delete = source.prepareStatement("DELETE FROM " + table + " WHERE id = ?")) {
+                    for (Object id : batch) {
+                        delete.setObject(1, id);
+                        delete.addBatch();
+                    }
+                    delete.executeBatch();
+                }
+            }
+            source.commit();
+        }
+    }
+
+    private static void copy(Connection source, Connection target, String table, List<Object> ids) throws SQLException {
+        try (PreparedStatement select = source.prepareStatement("SELECT * FROM " + table + " WHERE id = ?");
+             PreparedStatement exists = target.prepareStatement("SELECT 1 FROM " + table + " WHERE id = ?")) {
+            PreparedStatement insert = null;
+            try {
+                for (Object id : ids) {
+                    exists.setObject(1, id);
+                    try (ResultSet existing = exists.executeQuery()) {
+                        if (existing.next()) {
+                            continue;
+                        }
+                    }
+                    select.setObject(1, id);
+                    try (ResultSet row = select.executeQuery()) {
+                        if (!row.next()) {
+                            continue;
+                        }
+                        ResultSetMetaData metaData = row.getMetaData();
+                        if (insert == null) {
+                            insert = target.prepareStatement(insertSql(table, metaData));
+                        }
+                        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                            insert.setObject(column, row.getObject(column));
+                        }
+                        insert.addBatch();
+                    }
+                }
+                if (insert != null) {
+                    insert.executeBatch();
+                }
+            } finally {
+                if (insert != null) {
+                    insert.close();
+                }
+            }
+        }
+    }
+
+    private static String insertSql(String table, ResultSetMetaData metaData) throws SQLException {
+        StringBuilder columns = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            if (column > 1) {
+                columns.append(", ");
+                values.append(", ");
+            }
+            columns.append(metaData.getColumnName(column));
+            values.append('?');
+        }
+        return "INSERT INTO " + table + " (" + columns + ") VALUES (" + values + ")";
+    }
+
+    // MySQL 은 BINARY(16), H2 는 UUID 타입으로 돌려준다
+    private static UUID toUuid(Object id) {
+        if (id instanceof UUID uuid) {
+            return uuid;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap((byte[]) id);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,114 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+// 인시던트 id -> 샤드 번호 결정
+// id 를 고정된 수의 가상 버킷으로 해시한 뒤 버킷 -> 샤드 테이블로 매핑한다.
+// 리샤딩 시에는 버킷 테이블만 바꾸고 해당 버킷의 행만 옮기면 된다 (ShardRebalancer).
+// 운영 설정에서는 테이블을 incident.sharding.buckets 로 명시한다 ("0-511:0,512-1023:1" 형식).
+public class ShardRouter {
+
+    public static final int BUCKETS = 1024;
+
+    private final int shardCount;
+    private final int[] bucketToShard;
+
+    public ShardRouter(int shardCount) {
+        this(defaultBuckets(shardCount));
+    }
+
+    public ShardRouter(int[] bucketToShard) {
+        if (bucketToShard.length != BUCKETS) {
+            throw new IllegalArgumentException("Bucket table must have " + BUCKETS + " entries");
+        }
+        this.bucketToShard = bucketToShard.clone();
+        this.shardCount = Arrays.stream(bucketToShard).max().orElse(0) + 1;
+    }
+
+    // 설정된 샤드 수와 테이블이 맞는지 확인 (범위를 벗어난 샤드, 버킷이 하나도 없는 샤드는 거부)
+    public ShardRouter(int[] bucketToShard, int expectedShardCount) {
+        this(bucketToShard);
+        boolean[] used = new boolean[expectedShardCount];
+        for (int shard : bucketToShard) {
+            if (shard < 0 || shard >= expectedShardCount) {
+                throw new IllegalArgumentException("Bucket table refers to shard " + shard
+                        + " but " + expectedShardCount + " shards are configured");
+            }
+            used[shard] = true;
+        }
+        for (int shard = 0; shard < expectedShardCount; shard++) {
+            if (!used[shard]) {
+                throw new IllegalArgumentException("Shard " + shard + " owns no bucket in the bucket table");
+            }
+        }
+    }
+
+    // "0-511:0,512-1023:1" -> 버킷별 샤드 번호 (모든 버킷이 정확히 한 번씩 나와야 한다)
+    public static int[] parseBuckets(String spec) {
+        int[] buckets = new int[BUCKETS];
+        Arrays.fill(buckets, -1);
+        for (String entry : spec.split(",")) {
+            String[] rangeAndShard = entry.trim().split(":");
+            if (rangeAndShard.length != 2) {
+                throw new IllegalArgumentException("Invalid bucket entry '" + entry.trim() + "', expected <from>-<to>:<shard>");
+            }
+            String[] range = rangeAndShard[0].trim().split("-");
+            int from;
+            int to;
+            int shard;
+            try {
+                from = Integer.parseInt(range[0].trim());
+                to = range.length == 2 ? Integer.parseInt(range[1].trim()) : from;
+                shard = Integer.parseInt(rangeAndShard[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid bucket entry '" + entry.trim() + "'", e);
+            }
+            if (range.length > 2 || from < 0 || to >= BUCKETS || from > to) {
+                throw new IllegalArgumentException("Invalid bucket range '" + rangeAndShard[0].trim() + "'");
+            }
+            for (int bucket = from; bucket <= to; bucket++) {
+                if (buckets[bucket] != -1) {
+                    throw new IllegalArgumentException("Bucket " + bucket + " is assigned more than once");
+                }
+                buckets[bucket] = shard;
+            }
+        }
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            if (buckets[bucket] == -1) {
+                throw new IllegalArgumentException("Bucket " + bucket + " is not assigned to any shard");
+            }
+        }
+        return buckets;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(UUID incidentId) {
+        return bucketToShard[bucketOf(incidentId)];
+    }
+
+    public static int bucketOf(UUID incidentId) {
+        // UUID 비트를 섞어 버킷 분포를 고르게 (murmur3 fmix64)
+        long h = incidentId.getMostSignificantBits() ^ incidentId.getLeastSignificantBits();
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) BUCKETS);
+    }
+
+    private static int[] defaultBuckets(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        int[] buckets = new int[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            buckets[bucket] = bucket % shardCount;
+        }
+        return buckets;
+    }
+}
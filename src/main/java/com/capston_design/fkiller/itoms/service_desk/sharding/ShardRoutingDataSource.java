@@ -0,0 +1,12 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// ShardContext 의 샤드 번호로 대상 DataSource 선택 (지정되지 않으면 0번 샤드)
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,67 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 모든 샤드에 필요한 테이블이 있는지 기동 시 확인하고, 없으면 기동을 실패시킨다.
+// JPA ddl-auto 는 라우팅 DataSource 의 기본(0번) 샤드에만 적용되므로,
+// 나머지 샤드에는 docker/mysql/t_incident_schema.sql 을 먼저 실행해야 한다.
+// (싱글톤 생성이 모두 끝난 뒤 = ddl-auto 가 0번 샤드에 적용된 뒤 실행)
+public class ShardSchemaVerifier implements SmartInitializingSingleton {
+
+    private final ShardDataSources shardDataSources;
+    private final List<String> requiredTables;
+
+    public ShardSchemaVerifier(ShardDataSources shardDataSources, List<String> requiredTables) {
+        this.shardDataSources = shardDataSources;
+        this.requiredTables = List.copyOf(requiredTables);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<String> missing = new ArrayList<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            for (String table : missingTables(shard)) {
+                missing.add("shard-" + shard + "." + table);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing tables " + missing
+                    + " - apply docker/mysql/t_incident_schema.sql to every shard");
+        }
+    }
+
+    private List<String> missingTables(int shard) {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = shardDataSources.get(shard).getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : requiredTables) {
+                if (!tableExists(connection, metaData, table)) {
+                    missing.add(table);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot verify schema of shard-" + shard, e);
+        }
+        return missing;
+    }
+
+    // 식별자 대소문자 저장 방식은 DB 마다 다르므로 소문자/대문자 모두 확인
+    private static boolean tableExists(Connection connection, DatabaseMetaData metaData, String table) throws SQLException {
+        for (String name : List.of(table.toLowerCase(Locale.ROOT), table.toUpperCase(Locale.ROOT))) {
+            try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), name, new String[]{"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
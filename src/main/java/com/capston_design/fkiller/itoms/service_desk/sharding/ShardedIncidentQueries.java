@@ -0,0 +1,129 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.capston_design.fkiller.itoms.service_desk.repository.IncidentRepository;
+import com.capston_design.fkiller.itoms.service_desk.sql.SqlStatementStats;
+import com.capston_design.fkiller.itoms.service_desk.sql.SqlStatementTracker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.*;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+// 여러 샤드에 걸친 조회를 병렬로 실행하고 결과를 합친다 (scatter-gather)
+@Component
+public class ShardedIncidentQueries {
+
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final IncidentRepository incidentRepository;
+    private final ShardRouter shardRouter;
+    private final ExecutorService shardQueryExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public ShardedIncidentQueries(IncidentRepository incidentRepository,
+                                  ShardRouter shardRouter,
+                                  @Qualifier("shardQueryExecutor") ExecutorService shardQueryExecutor,
+                                  PlatformTransactionManager transactionManager) {
+        this.incidentRepository = incidentRepository;
+        this.shardRouter = shardRouter;
+        this.shardQueryExecutor = shardQueryExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // 각 샤드에서 같은 조회를 실행한 결과 목록 (샤드 번호 순)
+    // 샤드 조회 스레드의 SQL 도 요청의 SqlStatementStats 에 합산된다
+    public <T> List<T> scatter(Function<IncidentRepository, T> query) {
+        int shardCount = shardRouter.shardCount();
+        if (shardCount == 1) {
+            return List.of(queryShard(0, query));
+        }
+        SqlStatementStats stats = SqlStatementTracker.current();
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> SqlStatementTracker.callWith(stats, () -> queryShard(target, query)), shardQueryExecutor));
+        }
+        List<T> results = new ArrayList<>(shardCount);
+        for (CompletableFuture<T> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    // 각 샤드에서 앞쪽 (page + 1) * size 건을 받아 createdAt 역순으로 병합한 뒤 해당 페이지만 잘라낸다
+    // page / size 범위는 IncidentService 에서 제한한다
+    public Page<Incident> findPage(int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, LATEST_FIRST);
+        if (shardRouter.shardCount() == 1) {
+            return queryShard(0, repository -> repository.findAll(pageable));
+        }
+        Pageable perShard = PageRequest.of(0, (page + 1) * size, LATEST_FIRST);
+        List<Page<Incident>> shardPages = scatter(repository -> repository.findAll(perShard));
+
+        long total = 0;
+        List<Incident> merged = new ArrayList<>();
+        for (Page<Incident> shardPage : shardPages) {
+            total += shardPage.getTotalElements();
+            merged.addAll(shardPage.getContent());
+        }
+        merged.sort(Comparator.comparing(Incident::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+
+        int from = Math.min(page * size, merged.size());
+        int to = Math.min(from + size, merged.size());
+        return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable, total);
+    }
+
+    public List<IncidentRepository.ChargerOpenCount> countOpenByCharger(Status status) {
+        List<IncidentRepository.ChargerOpenCount> counts = new ArrayList<>();
+        for (List<IncidentRepository.ChargerOpenCount> shardCounts : scatter(repository -> repository.countOpenByCharger(status))) {
+            counts.addAll(shardCounts);
+        }
+        return counts;
+    }
+
+    public List<IncidentRepository.OpenDeadline> findOpenDeadlines(Status status) {
+        List<IncidentRepository.OpenDeadline> deadlines = new ArrayList<>();
+        for (List<IncidentRepository.OpenDeadline> shardDeadlines : scatter(repository -> repository.findOpenDeadlines(status))) {
+            deadlines.addAll(shardDeadlines);
+        }
+        return deadlines;
+    }
+
+    // id 들을 샤드별로 묶어 샤드마다 트랜잭션 하나로 대상 행을 잠그고 update
+    // 이미 완료되었거나 에스컬레이션된 인시던트는 빠지고, 실제로 갱신된 id 만 돌려준다
+    public List<UUID> markEscalated(Collection<UUID> incidentIds) {
+        Map<Integer, List<UUID>> idsByShard = new HashMap<>();
+        for (UUID incidentId : incidentIds) {
+            idsByShard.computeIfAbsent(shardRouter.shardOf(incidentId), shard -> new ArrayList<>()).add(incidentId);
+        }
+        List<UUID> escalated = new ArrayList<>(incidentIds.size());
+        for (Map.Entry<Integer, List<UUID>> entry : idsByShard.entrySet()) {
+            List<UUID> shardEscalated = ShardContext.callOn(entry.getKey(), () -> writeTransaction.execute(status -> {
+                List<UUID> targets = incidentRepository.lockEscalatable(entry.getValue(), Status.Incomplete);
+                if (!targets.isEmpty()) {
+                    incidentRepository.markEscalated(targets);
+                }
+                return targets;
+            }));
+            if (shardEscalated != null) {
+                escalated.addAll(shardEscalated);
+            }
+        }
+        return escalated;
+    }
+
+    private <T> T queryShard(int shard, Function<IncidentRepository, T> query) {
+        return ShardContext.callOn(shard, () -> readOnlyTransaction.execute(status -> query.apply(incidentRepository)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// incident.sharding.shards[n].url / username / password
+// 비어 있으면 spring.datasource 하나만 0번 샤드로 사용
+// incident.sharding.buckets: 버킷 -> 샤드 테이블 (예: "0-511:0,512-1023:1")
+//   샤드가 둘 이상이면 필수이며, 기존 행의 위치를 결정하므로 샤드를 추가해도 자동으로 바뀌지 않는다.
+//   테이블을 바꿀 때는 ShardRebalancer 로 옮겨야 하는 행을 새 위치로 옮긴 뒤 적용한다.
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "incident.sharding")
+public class ShardingProperties {
+
+    private List<Shard> shards = new ArrayList<>();
+
+    private String buckets;
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
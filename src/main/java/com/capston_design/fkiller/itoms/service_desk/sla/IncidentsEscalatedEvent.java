@@ -0,0 +1,9 @@
+package com.capston_design.fkiller.itoms.service_desk.sla;
+
+import java.util.List;
+import java.util.UUID;
+
+// SLA 마감을 넘겨 에스컬레이션 된 인시던트 묶음 (알림 연동은 이 이벤트를 @EventListener 로 구독)
+public record IncidentsEscalatedEvent(
+        List<UUID> incidentIds
+) {}
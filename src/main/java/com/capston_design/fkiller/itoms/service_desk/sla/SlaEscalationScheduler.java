@@ -0,0 +1,113 @@
+package com.capston_design.fkiller.itoms.service_desk.sla;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.capston_design.fkiller.itoms.service_desk.repository.IncidentRepository;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardedIncidentQueries;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// 미결 인시던트의 SLA 마감을 타이밍 휠로 관리하고, 만료된 건을 묶어서 에스컬레이션
+// DB 를 주기적으로 폴링하지 않고, 기동 시 한 번만 미결 인시던트로 휠을 재구성한다.
+@Component
+public class SlaEscalationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SlaEscalationScheduler.class);
+
+    private final ShardedIncidentQueries shardedIncidentQueries;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration urgentSla;
+    private final Duration relaxedSla;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final SlaTimingWheel timingWheel;
+
+    public SlaEscalationScheduler(ShardedIncidentQueries shardedIncidentQueries,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${incident.sla.urgent:30m}") Duration urgentSla,
+                                  @Value("${incident.sla.relaxed:8h}") Duration relaxedSla,
+                                  @Value("${incident.sla.tick-millis:1000}") long tickMillis,
+                                  @Value("${incident.sla.batch-size:500}") int batchSize,
+                                  @Value("${incident.sla.retry-delay:30s}") Duration retryDelay) {
+        this.shardedIncidentQueries = shardedIncidentQueries;
+        this.eventPublisher = eventPublisher;
+        this.urgentSla = urgentSla;
+        this.relaxedSla = relaxedSla;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.timingWheel = new SlaTimingWheel(tickMillis, System.currentTimeMillis());
+        Gauge.builder("incident.sla.pending", timingWheel, SlaTimingWheel::pendingCount)
+                .description("SLA 마감 대기 중인 미결 인시던트 수")
+                .register(meterRegistry);
+    }
+
+    public void register(UUID incidentId, Priority priority, LocalDateTime requestDT) {
+        Duration sla = priority == Priority.URGENT ? urgentSla : relaxedSla;
+        long requestMillis = requestDT.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        timingWheel.schedule(incidentId, priority, requestMillis + sla.toMillis());
+    }
+
+    public void cancel(UUID incidentId) {
+        timingWheel.cancel(incidentId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<IncidentRepository.OpenDeadline> deadlines = shardedIncidentQueries.findOpenDeadlines(Status.Incomplete);
+        for (IncidentRepository.OpenDeadline deadline : deadlines) {
+            if (deadline.getRequestDT() != null && deadline.getPriority() != null) {
+                register(deadline.getId(), deadline.getPriority(), deadline.getRequestDT());
+            }
+        }
+        log.info("SLA timing wheel rebuilt - {} open incidents scheduled", deadlines.size());
+    }
+
+    // ChargerAssignmentLoader.refresh() 가 UserService 호출로 늦어져도 휠이 밀리지 않도록
+    // spring.task.scheduling.pool.size 로 스케줄러 스레드를 작업 수만큼 둔다
+    @Scheduled(fixedDelayString = "${incident.sla.tick-millis:1000}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        List<SlaTimingWheel.Timeout> expired = timingWheel.advanceTo(now);
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            escalate(expired.subList(from, Math.min(from + batchSize, expired.size())), now);
+        }
+    }
+
+    private void escalate(List<SlaTimingWheel.Timeout> batch, long now) {
+        List<UUID> incidentIds = new ArrayList<>(batch.size());
+        for (SlaTimingWheel.Timeout timeout : batch) {
+            incidentIds.add(timeout.getIncidentId());
+        }
+        try {
+            List<UUID> escalated = shardedIncidentQueries.markEscalated(incidentIds);
+            if (escalated.isEmpty()) {
+                return;
+            }
+            log.warn("SLA deadline exceeded - {} incidents escalated", escalated.size());
+            eventPublisher.publishEvent(new IncidentsEscalatedEvent(escalated));
+        } catch (RuntimeException e) {
+            // 만료된 항목은 휠에서 이미 빠졌으므로 다시 등록해 retryDelay 뒤에 재시도
+            // (그 사이 완료된 인시던트는 markEscalated 가 미결 상태만 갱신하므로 영향 없음)
+            log.error("Failed to escalate {} incidents, retrying in {}", incidentIds.size(), retryDelay, e);
+            for (SlaTimingWheel.Timeout timeout : batch) {
+                timingWheel.schedule(timeout.getIncidentId(), timeout.getPriority(), now + retryDelay.toMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.capston_design.fkiller.itoms.service_desk.sla;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// SLA 마감 시각을 관리하는 계층형 타이밍 휠 (64 슬롯 x 4 단계)
+// tick 이 1초라면 단계별 범위는 약 64초 / 68분 / 73시간 / 194일이며, 그보다 먼 마감은 마지막 단계에 두었다가 다시 배치한다.
+// schedule/cancel 은 어느 스레드에서든 O(1) 로 큐에만 넣고, 휠 구조는 advanceTo() 를 호출하는 단일 스레드만 변경한다.
+public class SlaTimingWheel {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Slot[][] wheel = new Slot[LEVELS][SLOTS];
+    private final ConcurrentHashMap<UUID, Timeout> timeouts = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+
+    // 다음에 처리할 tick (advanceTo 스레드 전용)
+    private long currentTick;
+
+    public SlaTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheel[level][slot] = new Slot();
+            }
+        }
+    }
+
+    public void schedule(UUID incidentId, Priority priority, long deadlineMillis) {
+        // 마감 시각보다 일찍 만료되지 않도록 올림
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        Timeout timeout = new Timeout(incidentId, priority, deadlineTick);
+        Timeout previous = timeouts.put(incidentId, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+            pendingCancels.add(previous);
+        }
+        pendingAdds.add(timeout);
+    }
+
+    public boolean cancel(UUID incidentId) {
+        Timeout timeout = timeouts.remove(incidentId);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.cancelled = true;
+        pendingCancels.add(timeout);
+        return true;
+    }
+
+    public int pendingCount() {
+        return timeouts.size();
+    }
+
+    // nowMillis 까지의 tick 을 처리하고 만료된 항목을 반환
+    public List<Timeout> advanceTo(long nowMillis) {
+        drainPending();
+        List<Timeout> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick <= targetTick) {
+            int index = (int) (currentTick & MASK);
+            if (index == 0) {
+                cascade();
+            }
+            expireSlot(wheel[0][index], expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    private void drainPending() {
+        Timeout timeout;
+        while ((timeout = pendingAdds.poll()) != null) {
+            if (!timeout.cancelled) {
+                place(timeout);
+            }
+        }
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.slot != null) {
+                timeout.slot.unlink(timeout);
+            }
+        }
+    }
+
+    // 하위 단계가 한 바퀴 돌 때마다 상위 단계의 현재 슬롯을 아래로 재배치
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            int index = (int) ((currentTick >>> (SLOT_BITS * level)) & MASK);
+            Slot slot = wheel[level][index];
+            Timeout timeout = slot.head;
+            slot.head = null;
+            slot.tail = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.slot = null;
+                place(timeout);
+                timeout = next;
+            }
+            if (index != 0) {
+                break;
+            }
+        }
+    }
+
+    private void expireSlot(Slot slot, List<Timeout> expired) {
+        Timeout timeout = slot.head;
+        slot.head = null;
+        slot.tail = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.slot = null;
+            if (timeout.deadlineTick > currentTick) {
+                // 최대 범위를 넘어 잘려서 배치된 항목
+                place(timeout);
+            } else if (timeouts.remove(timeout.incidentId, timeout)) {
+                expired.add(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        Slot slot;
+        if (delta < 0) {
+            slot = wheel[0][(int) (currentTick & MASK)];
+        } else if (delta < 1L << SLOT_BITS) {
+            slot = wheel[0][(int) (timeout.deadlineTick & MASK)];
+        } else if (delta < 1L << (SLOT_BITS * 2)) {
+            slot = wheel[1][(int) ((timeout.deadlineTick >>> SLOT_BITS) & MASK)];
+        } else if (delta < 1L << (SLOT_BITS * 3)) {
+            slot = wheel[2][(int) ((timeout.deadlineTick >>> (SLOT_BITS * 2)) & MASK)];
+        } else {
+            long tick = delta > MAX_DELTA ? currentTick + MAX_DELTA : timeout.deadlineTick;
+            slot = wheel[3][(int) ((tick >>> (SLOT_BITS * 3)) & MASK)];
+        }
+        slot.link(timeout);
+    }
+
+    public static final class Timeout {
+        private final UUID incidentId;
+        private final Priority priority;
+        private final long deadlineTick;
+        private volatile boolean cancelled;
+        private Timeout prev;
+        private Timeout next;
+        private Slot slot;
+
+        private Timeout(UUID incidentId, Priority priority, long deadlineTick) {
+            this.incidentId = incidentId;
+            this.priority = priority;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public UUID getIncidentId() {
+            return incidentId;
+        }
+
+        public Priority getPriority() {
+            return priority;
+        }
+    }
+
+    private static final class Slot {
+        private Timeout head;
+        private Timeout tail;
+
+        void link(Timeout timeout) {
+            timeout.slot = this;
+            timeout.prev = tail;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void unlink(Timeout timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.slot = null;
+        }
+    }
+}
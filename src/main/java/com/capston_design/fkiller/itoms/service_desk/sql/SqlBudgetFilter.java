@@ -0,0 +1,75 @@
+package com.capston_design.fkiller.itoms.service_desk.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// 요청 단위로 SQL 실행 통계를 모아 endpoint 태그와 함께 메트릭으로 기록 (open-in-view 중 직렬화 시점의 lazy load 포함)
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long warnStatements;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry,
+                           @Value("${sql.budget.warn-statements:10}") long warnStatements) {
+        this.meterRegistry = meterRegistry;
+        this.warnStatements = warnStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementTracker.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementTracker.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청당 실행된 SQL statement 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.sql.rows")
+                .description("요청당 fetch 된 row 수")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("http.server.sql.time")
+                .description("요청당 DB 실행 시간 합계")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getTimeNanos(), TimeUnit.NANOSECONDS);
+
+        // N+1 의심: 요청당 statement 수가 임계치를 넘으면 경고
+        if (stats.getStatements() > warnStatements) {
+            log.warn("SQL budget exceeded - {} {} issued {} statements (rows: {}, db time: {} ms)",
+                    request.getMethod(), uri, stats.getStatements(), stats.getRows(), stats.getTimeNanos() / 1_000_000);
+        }
+    }
+}
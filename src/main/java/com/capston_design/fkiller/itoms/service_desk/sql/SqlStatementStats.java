@@ -0,0 +1,37 @@
+package com.capston_design.fkiller.itoms.service_desk.sql;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 한 요청 동안 실행된 SQL 통계
+// 샤드 병렬 조회처럼 요청 스레드가 아닌 스레드에서도 같은 통계에 누적할 수 있도록 LongAdder 사용
+public class SqlStatementStats {
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder timeNanos = new LongAdder();
+
+    void addStatements(long count, long elapsedNanos) {
+        statements.add(count);
+        timeNanos.add(elapsedNanos);
+    }
+
+    void addRow() {
+        rows.increment();
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getTimeNanos() {
+        return timeNanos.sum();
+    }
+
+    public String toHeaderValue() {
+        return "statements=" + getStatements() + ";rows=" + getRows() + ";timeMs=" + (getTimeNanos() / 1_000_000);
+    }
+}
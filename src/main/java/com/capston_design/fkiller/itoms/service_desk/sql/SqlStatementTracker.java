@@ -0,0 +1,85 @@
+package com.capston_design.fkiller.itoms.service_desk.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+// datasource-proxy 리스너로 현재 스레드에서 실행된 statement 수 / fetch 된 row 수 / DB 시간을 누적
+// begin() 으로 추적을 시작한 스레드에서만 집계하고, 그 외 스레드에서는 아무 일도 하지 않는다.
+// 다른 스레드에 작업을 넘길 때는 callWith() 로 요청의 통계를 그 스레드에 붙인다.
+public class SqlStatementTracker implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+    // ExecutionInfo.getElapsedTime() 은 ms 단위라 짧은 쿼리가 0 으로 잡히므로 직접 nanoTime 을 잰다
+    private static final String START_NANOS = SqlStatementTracker.class.getName() + ".startNanos";
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // stats 가 null 이면 집계 없이 실행
+    public static <T> T callWith(SqlStatementStats stats, Supplier<T> action) {
+        if (stats == null) {
+            return action.get();
+        }
+        SqlStatementStats previous = CURRENT.get();
+        CURRENT.set(stats);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (CURRENT.get() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+            long elapsedNanos = startNanos != null ? System.nanoTime() - startNanos : 0L;
+            stats.addStatements(queryInfoList.size(), elapsedNanos);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null
+                && executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            stats.addRow();
+        }
+    }
+}
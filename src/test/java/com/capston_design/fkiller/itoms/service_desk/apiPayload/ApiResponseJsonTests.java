@@ -0,0 +1,145 @@
+package com.capston_design.fkiller.itoms.service_desk.apiPayload;
+
+import com.capston_design.fkiller.itoms.service_desk.converter.IncidentConverter;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserCreateResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 응답 봉투와 인시던트 본문의 JSON 형식 고정 (커스텀 serializer 가 기존 형식과 달라지지 않도록)
+@JsonTest
+class ApiResponseJsonTests {
+
+    private static final UUID INCIDENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID TICKET_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID REQUESTER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID CHARGER_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    private static final String INCIDENT_JSON = "{\"id\":\"00000000-0000-0000-0000-000000000001\","
+            + "\"title\":\"로그인 장애\","
+            + "%s"
+            + "\"requestDT\":\"2025-05-01T09:30:12.5\",\"acceptDT\":null,\"endDT\":null,"
+            + "\"status\":\"Incomplete\",\"priority\":\"URGENT\","
+            + "\"ticketByID\":\"00000000-0000-0000-0000-000000000002\","
+            + "\"requesterById\":\"00000000-0000-0000-0000-000000000003\","
+            + "\"creatorById\":null,"
+            + "\"chargerById\":\"00000000-0000-0000-0000-000000000004\","
+            + "\"requester\":\"홍길동\",\"creator\":null,\"charger\":null,"
+            + "\"createdAt\":\"2025-05-01 09:30:12\",\"updatedAt\":\"2025-05-01 09:30:12\"}";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void successEnvelopeWritesFixedCodeAndMessage() throws Exception {
+        String json = objectMapper.writeValueAsString(ApiResponse.onSuccess(Map.of("count", 1)));
+
+        assertThat(json).isEqualTo("{\"isSuccess\":true,\"code\":\"COMMON200\",\"message\":\"성공입니다.\",\"result\":{\"count\":1}}");
+    }
+
+    @Test
+    void successEnvelopeOmitsNullResult() throws Exception {
+        String json = objectMapper.writeValueAsString(ApiResponse.onSuccess(null));
+
+        assertThat(json).isEqualTo("{\"isSuccess\":true,\"code\":\"COMMON200\",\"message\":\"성공입니다.\"}");
+    }
+
+    @Test
+    void failureEnvelopeWritesGivenCodeAndMessage() throws Exception {
+        String json = objectMapper.writeValueAsString(ApiResponse.onFailure("INCIDENT4041", "인시던트가 없습니다.", Map.of("field", "id")));
+
+        assertThat(json).isEqualTo("{\"isSuccess\":false,\"code\":\"INCIDENT4041\",\"message\":\"인시던트가 없습니다.\",\"result\":{\"field\":\"id\"}}");
+    }
+
+    @Test
+    void failureEnvelopeOmitsNullResult() throws Exception {
+        String json = objectMapper.writeValueAsString(ApiResponse.onFailure("COMMON500", "서버 에러", null));
+
+        assertThat(json).isEqualTo("{\"isSuccess\":false,\"code\":\"COMMON500\",\"message\":\"서버 에러\"}");
+    }
+
+    @Test
+    void successCodeIsNotAssumedForFailureWithSameCode() throws Exception {
+        // 성공 코드 문자열을 그대로 넘겨도 isSuccess 는 false 로 유지
+        String json = objectMapper.writeValueAsString(ApiResponse.onFailure("COMMON200", "성공입니다.", null));
+
+        assertThat(json).isEqualTo("{\"isSuccess\":false,\"code\":\"COMMON200\",\"message\":\"성공입니다.\"}");
+    }
+
+    @Test
+    void incidentWithoutContentOmitsContentField() throws Exception {
+        String json = objectMapper.writeValueAsString(IncidentConverter.toIncidentView(incident(null), names()));
+
+        assertThat(json).isEqualTo(INCIDENT_JSON.formatted(""));
+    }
+
+    @Test
+    void incidentDetailIncludesContent() throws Exception {
+        String json = objectMapper.writeValueAsString(IncidentConverter.toIncidentView(incident("로그인이 안 됩니다"), names()));
+
+        assertThat(json).isEqualTo(INCIDENT_JSON.formatted("\"content\":\"로그인이 안 됩니다\","));
+    }
+
+    @Test
+    void incidentListWritesPageMetadata() throws Exception {
+        var page = new PageImpl<>(List.of(incident(null)), PageRequest.of(0, 20), 41);
+
+        String json = objectMapper.writeValueAsString(ApiResponse.onSuccess(IncidentConverter.toIncidentListView(page, names())));
+
+        assertThat(json).isEqualTo("{\"isSuccess\":true,\"code\":\"COMMON200\",\"message\":\"성공입니다.\",\"result\":"
+                + "{\"incidentList\":[" + INCIDENT_JSON.formatted("") + "],"
+                + "\"listSize\":1,\"totalPage\":3,\"totalElements\":41,\"isFirst\":true,\"isLast\":false}}");
+    }
+
+    @Test
+    void userServiceEnvelopeIsReadable() throws Exception {
+        // UserClient 가 받는 응답도 같은 ApiResponse 로 역직렬화
+        String json = "{\"isSuccess\":true,\"code\":\"COMMON200\",\"message\":\"성공입니다.\","
+                + "\"result\":{\"id\":\"00000000-0000-0000-0000-000000000003\",\"name\":\"홍길동\"}}";
+
+        ApiResponse<UserCreateResponseDTO> response = objectMapper.readValue(json, new TypeReference<>() {
+        });
+
+        assertThat(response.getIsSuccess()).isTrue();
+        assertThat(response.getCode()).isEqualTo("COMMON200");
+        assertThat(response.getResult().getId()).isEqualTo(REQUESTER_ID);
+        assertThat(response.getResult().getName()).isEqualTo("홍길동");
+    }
+
+    private static Incident incident(String content) {
+        Incident incident = new Incident();
+        incident.setId(INCIDENT_ID);
+        incident.setTitle("로그인 장애");
+        incident.setContent(content);
+        incident.setRequestDT(LocalDateTime.of(2025, 5, 1, 9, 30, 12, 500_000_000));
+        incident.setStatus(Status.Incomplete);
+        incident.setPriority(Priority.URGENT);
+        incident.setTicketByID(TICKET_ID);
+        incident.setRequesterById(REQUESTER_ID);
+        incident.setChargerById(CHARGER_ID);
+        LocalDateTime auditTime = LocalDateTime.of(2025, 5, 1, 9, 30, 12, 345_000_000);
+        ReflectionTestUtils.setField(incident, "createdAt", auditTime);
+        ReflectionTestUtils.setField(incident, "updatedAt", auditTime);
+        return incident;
+    }
+
+    // 담당자 이름은 조회 실패 (null) 로 둔다
+    private static Map<UUID, String> names() {
+        return Map.of(REQUESTER_ID, "홍길동");
+    }
+}
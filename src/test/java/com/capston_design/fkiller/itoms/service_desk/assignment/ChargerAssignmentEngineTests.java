@@ -0,0 +1,181 @@
+package com.capston_design.fkiller.itoms.service_desk.assignment;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChargerAssignmentEngineTests {
+
+    @Test
+    void urgentGoesToLeastLoadedChargerAcrossStripes() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 4);
+        List<UUID> chargers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            UUID chargerId = UUID.randomUUID();
+            chargers.add(chargerId);
+            engine.registerCharger(chargerId);
+            engine.restoreLoad(chargerId, Priority.RELAXED, 10 + i);
+        }
+
+        assertThat(engine.assign(Priority.URGENT)).contains(chargers.get(0));
+        assertThat(engine.loadOf(chargers.get(0))).isEqualTo(13);
+        // 0번이 13 이 되었으므로 다음 최소는 11 인 1번
+        assertThat(engine.assign(Priority.URGENT)).contains(chargers.get(1));
+    }
+
+    @Test
+    void assignmentsSpreadEvenlyWhenLoadsAreEqual() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 1);
+        List<UUID> chargers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID chargerId = UUID.randomUUID();
+            chargers.add(chargerId);
+            engine.registerCharger(chargerId);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            engine.assign(Priority.RELAXED);
+        }
+
+        for (UUID chargerId : chargers) {
+            assertThat(engine.loadOf(chargerId)).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void releaseMakesChargerPreferredAgain() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 1);
+        UUID busy = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        engine.registerCharger(busy);
+        engine.registerCharger(other);
+        engine.restoreLoad(busy, Priority.URGENT, 2);
+        engine.restoreLoad(other, Priority.RELAXED, 4);
+
+        engine.release(busy, Priority.URGENT);
+        engine.release(busy, Priority.URGENT);
+
+        assertThat(engine.loadOf(busy)).isZero();
+        assertThat(engine.assign(Priority.RELAXED)).contains(busy);
+    }
+
+    @Test
+    void releasingARolledBackAssignmentRestoresPreviousLoad() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        engine.registerCharger(first);
+        engine.registerCharger(second);
+        engine.restoreLoad(first, Priority.RELAXED, 1);
+
+        UUID assigned = engine.assign(Priority.URGENT).orElseThrow();
+        // 트랜잭션 롤백 시 IncidentService 가 같은 priority 로 release
+        engine.release(assigned, Priority.URGENT);
+
+        assertThat(assigned).isEqualTo(second);
+        assertThat(engine.loadOf(first)).isEqualTo(1);
+        assertThat(engine.loadOf(second)).isZero();
+    }
+
+    @Test
+    void loadNeverGoesNegative() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 1);
+        UUID chargerId = UUID.randomUUID();
+        engine.registerCharger(chargerId);
+
+        engine.release(chargerId, Priority.URGENT);
+
+        assertThat(engine.loadOf(chargerId)).isZero();
+    }
+
+    @Test
+    void clampedReleaseIsCountedAsDrift() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(registry, 1);
+        UUID chargerId = UUID.randomUUID();
+        engine.registerCharger(chargerId, Map.of(Priority.RELAXED, 1L));
+
+        engine.release(chargerId, Priority.RELAXED);
+        assertThat(registry.counter("incident.assignment.load.drift").count()).isZero();
+
+        engine.release(chargerId, Priority.RELAXED);
+        assertThat(registry.counter("incident.assignment.load.drift").count()).isEqualTo(1);
+    }
+
+    @Test
+    void registerWithOpenCountsRestoresWeightedLoad() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 2);
+        UUID chargerId = UUID.randomUUID();
+
+        engine.registerCharger(chargerId, Map.of(Priority.URGENT, 2L, Priority.RELAXED, 3L));
+
+        assertThat(engine.loadOf(chargerId)).isEqualTo(9);
+    }
+
+    @Test
+    void releaseBeforeRegistrationDuringRestoreIsSubtracted() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 2);
+        UUID chargerId = UUID.randomUUID();
+
+        engine.beginRestore();
+        // 미결 건수 조회 후, 등록 전에 그중 한 건이 완료됨
+        engine.release(chargerId, Priority.URGENT);
+        engine.registerCharger(chargerId, Map.of(Priority.URGENT, 2L));
+        engine.endRestore();
+
+        assertThat(engine.loadOf(chargerId)).isEqualTo(3);
+    }
+
+    @Test
+    void releaseOfUnknownChargerOutsideRestoreIsIgnored() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 2);
+        UUID chargerId = UUID.randomUUID();
+
+        engine.release(chargerId, Priority.URGENT);
+        engine.registerCharger(chargerId, Map.of(Priority.URGENT, 2L));
+
+        assertThat(engine.loadOf(chargerId)).isEqualTo(6);
+    }
+
+    @Test
+    void restoreLoadIgnoresUnregisteredChargers() {
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 2);
+        UUID removed = UUID.randomUUID();
+
+        engine.restoreLoad(removed, Priority.RELAXED, 3);
+
+        assertThat(engine.chargerIds()).isEmpty();
+        assertThat(engine.assign(Priority.RELAXED)).isEmpty();
+    }
+
+    @Test
+    void unregisteredChargerIsNoLongerAssigned() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChargerAssignmentEngine engine = new ChargerAssignmentEngine(registry, 1);
+        List<UUID> chargers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            UUID chargerId = UUID.randomUUID();
+            chargers.add(chargerId);
+            engine.registerCharger(chargerId);
+            engine.restoreLoad(chargerId, Priority.RELAXED, i * 3L);
+        }
+
+        // 최소 부하(0번)와 중간 노드(5번) 제거 후에도 힙 순서 유지
+        engine.unregisterCharger(chargers.get(0));
+        engine.unregisterCharger(chargers.get(5));
+
+        assertThat(engine.chargerIds()).hasSize(6).doesNotContain(chargers.get(0), chargers.get(5));
+        assertThat(engine.assign(Priority.RELAXED)).contains(chargers.get(1));
+        assertThat(engine.assign(Priority.RELAXED)).contains(chargers.get(1));
+        assertThat(engine.assign(Priority.RELAXED)).contains(chargers.get(1));
+        assertThat(engine.loadOf(chargers.get(1))).isEqualTo(6);
+        assertThat(registry.find("incident.charger.load").gauges()).hasSize(6);
+    }
+}
@@ -0,0 +1,139 @@
+package com.capston_design.fkiller.itoms.service_desk.assignment;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.cache.UserDirectoryCache;
+import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserCreateResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.capston_design.fkiller.itoms.service_desk.repository.IncidentRepository;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardedIncidentQueries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChargerAssignmentLoaderTests {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    private final ChargerAssignmentEngine engine = new ChargerAssignmentEngine(new SimpleMeterRegistry(), 2);
+    private final ShardedIncidentQueries queries = mock(ShardedIncidentQueries.class);
+    private final UserClient userClient = mock(UserClient.class);
+    private final UserDirectoryCache userDirectoryCache = mock(UserDirectoryCache.class);
+    private final ChargerAssignmentLoader loader = new ChargerAssignmentLoader(engine, queries, userClient, userDirectoryCache);
+
+    @Test
+    void rebuildRegistersChargersWithRestoredLoad() {
+        when(userClient.getChargerUsers()).thenReturn(chargers(alice, bob));
+        when(queries.countOpenByCharger(Status.Incomplete)).thenReturn(List.of(
+                new OpenCount(alice, Priority.URGENT, 2L),
+                new OpenCount(alice, Priority.RELAXED, 1L),
+                new OpenCount(carol, Priority.RELAXED, 4L)));
+
+        loader.rebuild();
+
+        // carol 은 목록에 없으므로 건수가 있어도 등록하지 않는다
+        assertThat(engine.chargerIds()).containsExactlyInAnyOrder(alice, bob);
+        assertThat(engine.loadOf(alice)).isEqualTo(7);
+        assertThat(engine.loadOf(bob)).isZero();
+        verify(userDirectoryCache).put(alice, "담당자-" + alice);
+    }
+
+    @Test
+    void rebuildFallsBackToOpenIncidentsWhenUserServiceIsDown() {
+        when(userClient.getChargerUsers()).thenThrow(new IllegalStateException("user-service down"));
+        when(queries.countOpenByCharger(Status.Incomplete)).thenReturn(List.of(
+                new OpenCount(alice, Priority.RELAXED, 2L),
+                new OpenCount(carol, Priority.URGENT, 1L)));
+
+        loader.rebuild();
+
+        assertThat(engine.chargerIds()).containsExactlyInAnyOrder(alice, carol);
+        assertThat(engine.loadOf(alice)).isEqualTo(2);
+        assertThat(engine.loadOf(carol)).isEqualTo(3);
+    }
+
+    @Test
+    void releaseBetweenCountAndRegistrationIsNotLost() {
+        when(userClient.getChargerUsers()).thenReturn(chargers(alice));
+        when(queries.countOpenByCharger(Status.Incomplete)).thenAnswer(invocation -> {
+            List<OpenCount> counts = List.of(new OpenCount(alice, Priority.URGENT, 2L));
+            // 조회 직후, 등록 전에 조회된 건 중 하나가 완료되어 release 됨
+            engine.release(alice, Priority.URGENT);
+            return counts;
+        });
+
+        loader.rebuild();
+
+        assertThat(engine.loadOf(alice)).isEqualTo(3);
+    }
+
+    @Test
+    void refreshAddsAndRemovesChargersWithoutTouchingExistingLoad() {
+        when(userClient.getChargerUsers()).thenReturn(chargers(alice, bob), chargers(alice, carol));
+        when(queries.countOpenByCharger(Status.Incomplete)).thenReturn(List.of(
+                new OpenCount(alice, Priority.RELAXED, 1L),
+                new OpenCount(carol, Priority.URGENT, 1L)));
+        loader.rebuild();
+        engine.assign(Priority.URGENT);
+
+        int aliceLoad = engine.loadOf(alice);
+        loader.refresh();
+
+        assertThat(engine.chargerIds()).containsExactlyInAnyOrder(alice, carol);
+        assertThat(engine.loadOf(alice)).isEqualTo(aliceLoad);
+        assertThat(engine.loadOf(carol)).isEqualTo(3);
+    }
+
+    @Test
+    void refreshKeepsStateWhenUserServiceIsDown() {
+        when(userClient.getChargerUsers())
+                .thenReturn(chargers(alice, bob))
+                .thenThrow(new IllegalStateException("user-service down"));
+        when(queries.countOpenByCharger(Status.Incomplete)).thenReturn(List.of(new OpenCount(alice, Priority.RELAXED, 2L)));
+        loader.rebuild();
+
+        loader.refresh();
+
+        assertThat(engine.chargerIds()).containsExactlyInAnyOrder(alice, bob);
+        assertThat(engine.loadOf(alice)).isEqualTo(2);
+    }
+
+    private static ApiResponse<List<UserCreateResponseDTO>> chargers(UUID... chargerIds) {
+        List<UserCreateResponseDTO> users = new ArrayList<>();
+        for (UUID chargerId : chargerIds) {
+            UserCreateResponseDTO user = new UserCreateResponseDTO();
+            user.setId(chargerId);
+            user.setName("담당자-" + chargerId);
+            users.add(user);
+        }
+        return ApiResponse.onSuccess(users);
+    }
+
+    private record OpenCount(UUID chargerId, Priority priority, Long openCount) implements IncidentRepository.ChargerOpenCount {
+        @Override
+        public UUID getChargerId() {
+            return chargerId;
+        }
+
+        @Override
+        public Priority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public Long getOpenCount() {
+            return openCount;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.capston_design.fkiller.itoms.service_desk.cache;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserCreateResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserIdsRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDirectoryCacheTests {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    private final UserClient userClient = mock(UserClient.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private UserDirectoryCache cache;
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void resolvesAllIdsOfPageWithOneBatchCall() {
+        cache = newCache(100, Duration.ofSeconds(2));
+        when(userClient.getUsersByIds(any())).thenReturn(users(Map.of(alice, "앨리스", bob, "밥")));
+
+        Map<UUID, String> names = cache.resolveAll(Arrays.asList(alice, bob, alice, null));
+
+        assertThat(names).containsExactlyInAnyOrderEntriesOf(Map.of(alice, "앨리스", bob, "밥"));
+        ArgumentCaptor<UserIdsRequestDTO> request = ArgumentCaptor.forClass(UserIdsRequestDTO.class);
+        verify(userClient, times(1)).getUsersByIds(request.capture());
+        assertThat(request.getValue().userIds()).containsExactlyInAnyOrder(alice, bob);
+
+        // 다음 요청은 캐시에서 해석
+        assertThat(cache.resolveAll(List.of(alice, bob))).hasSize(2);
+        verify(userClient, times(1)).getUsersByIds(any());
+    }
+
+    @Test
+    void concurrentMissesShareOneCall() throws Exception {
+        cache = newCache(100, Duration.ofSeconds(5), Executors.newFixedThreadPool(2));
+        CountDownLatch called = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userClient.getUsersByIds(any())).thenAnswer(invocation -> {
+            called.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return users(Map.of(alice, "앨리스"));
+        });
+
+        CompletableFuture<Map<UUID, String>> first = CompletableFuture.supplyAsync(() -> cache.resolveAll(List.of(alice)));
+        assertThat(called.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Map<UUID, String>> second = CompletableFuture.supplyAsync(() -> cache.resolveAll(List.of(alice)));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry(alice, "앨리스");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry(alice, "앨리스");
+        verify(userClient, times(1)).getUsersByIds(any());
+    }
+
+    @Test
+    void unknownIdIsCachedForNegativeTtl() {
+        cache = newCache(100, Duration.ofSeconds(2));
+        when(userClient.getUsersByIds(any())).thenReturn(users(Map.of(alice, "앨리스")));
+
+        assertThat(cache.resolveAll(List.of(alice, bob))).containsOnlyKeys(alice);
+        assertThat(cache.resolveAll(List.of(alice, bob))).containsOnlyKeys(alice);
+        verify(userClient, times(1)).getUsersByIds(any());
+
+        // negative-ttl 이 지나면 없는 id 만 다시 조회
+        nanos.addAndGet(NEGATIVE_TTL.plusSeconds(1).toNanos());
+        assertThat(cache.resolveAll(List.of(alice, bob))).containsOnlyKeys(alice);
+        ArgumentCaptor<UserIdsRequestDTO> request = ArgumentCaptor.forClass(UserIdsRequestDTO.class);
+        verify(userClient, times(2)).getUsersByIds(request.capture());
+        assertThat(request.getValue().userIds()).containsExactly(bob);
+    }
+
+    @Test
+    void namesExpireAfterTtl() {
+        cache = newCache(100, Duration.ofSeconds(2));
+        when(userClient.getUsersByIds(any())).thenReturn(users(Map.of(alice, "앨리스")));
+
+        cache.resolveAll(List.of(alice));
+        nanos.addAndGet(TTL.minusSeconds(1).toNanos());
+        cache.resolveAll(List.of(alice));
+        verify(userClient, times(1)).getUsersByIds(any());
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.resolveAll(List.of(alice));
+        verify(userClient, times(2)).getUsersByIds(any());
+    }
+
+    @Test
+    void sizeIsBoundedByMaxSize() {
+        cache = newCache(2, Duration.ofSeconds(2));
+        when(userClient.getUsersByIds(any())).thenReturn(users(Map.of(alice, "앨리스", bob, "밥", carol, "캐럴")));
+
+        cache.resolveAll(List.of(alice));
+        cache.resolveAll(List.of(bob));
+        cache.resolveAll(List.of(carol));
+
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void slowUserServiceReturnsEmptyWithinTimeout() {
+        cache = newCache(100, Duration.ofMillis(100), Executors.newFixedThreadPool(2));
+        CountDownLatch release = new CountDownLatch(1);
+        when(userClient.getUsersByIds(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return users(Map.of(alice, "앨리스"));
+        });
+
+        long start = System.nanoTime();
+        Map<UUID, String> names = cache.resolveAll(List.of(alice));
+
+        assertThat(names).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        release.countDown();
+    }
+
+    @Test
+    void failedCallIsNotCached() {
+        cache = newCache(100, Duration.ofSeconds(2));
+        when(userClient.getUsersByIds(any()))
+                .thenThrow(new IllegalStateException("user-service down"))
+                .thenReturn(users(Map.of(alice, "앨리스")));
+
+        assertThat(cache.resolveAll(List.of(alice))).isEmpty();
+        assertThat(cache.resolveAll(List.of(alice))).containsEntry(alice, "앨리스");
+        verify(userClient, times(2)).getUsersByIds(any());
+    }
+
+    private UserDirectoryCache newCache(long maxSize, Duration timeout) {
+        return newCache(maxSize, timeout, new DirectExecutorService());
+    }
+
+    private UserDirectoryCache newCache(long maxSize, Duration timeout, ExecutorService loaderExecutor) {
+        return new UserDirectoryCache(userClient, maxSize, TTL, NEGATIVE_TTL, timeout, loaderExecutor, nanos::get);
+    }
+
+    private static ApiResponse<List<UserCreateResponseDTO>> users(Map<UUID, String> names) {
+        List<UserCreateResponseDTO> users = new ArrayList<>();
+        names.forEach((id, name) -> {
+            UserCreateResponseDTO user = new UserCreateResponseDTO();
+            user.setId(id);
+            user.setName(name);
+            users.add(user);
+        });
+        return ApiResponse.onSuccess(users);
+    }
+
+    // 조회와 완료 콜백 (만료 시각 계산 포함) 을 호출 스레드에서 바로 실행해 시계 조작 결과가 결정적이 되도록 한다
+    private static final class DirectExecutorService extends AbstractExecutorService {
+        private volatile boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
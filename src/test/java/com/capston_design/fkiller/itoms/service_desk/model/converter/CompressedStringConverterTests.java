@@ -0,0 +1,73 @@
+package com.capston_design.fkiller.itoms.service_desk.model.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedStringConverterTests {
+
+    private final CompressedStringConverter converter = new CompressedStringConverter();
+
+    @Test
+    void shortContentIsStoredRaw() {
+        String content = "프린터가 동작하지 않습니다";
+
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(stored[0]).isEqualTo((byte) 0);
+        assertThat(Arrays.copyOfRange(stored, 1, stored.length)).isEqualTo(content.getBytes(StandardCharsets.UTF_8));
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void longRepetitiveContentIsDeflated() {
+        String content = "VPN 접속 시 인증서 오류가 발생합니다. ".repeat(100);
+
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(stored[0]).isEqualTo((byte) 1);
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void contentBelowThresholdIsNotCompressedEvenIfCompressible() {
+        String content = "a".repeat(255);
+
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        assertThat(stored[0]).isEqualTo((byte) 0);
+        assertThat(stored).hasSize(256);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void nullAndEmptyRoundTrip() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(""))).isEmpty();
+    }
+
+    @Test
+    void migratedRawRowsAreReadable() {
+        // 마이그레이션 스크립트가 기존 본문 앞에 0x00 헤더를 붙여 옮긴 행
+        byte[] body = "기존 본문".getBytes(StandardCharsets.UTF_8);
+        byte[] migrated = new byte[body.length + 1];
+        System.arraycopy(body, 0, migrated, 1, body.length);
+
+        assertThat(converter.convertToEntityAttribute(migrated)).isEqualTo("기존 본문");
+    }
+
+    @Test
+    void truncatedCompressedContentIsRejected() {
+        byte[] stored = converter.convertToDatabaseColumn("a".repeat(1_000) + "b".repeat(1_000));
+        byte[] truncated = Arrays.copyOf(stored, stored.length / 2);
+
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(truncated))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
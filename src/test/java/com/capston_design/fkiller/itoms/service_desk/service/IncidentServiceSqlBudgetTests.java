@@ -0,0 +1,57 @@
+package com.capston_design.fkiller.itoms.service_desk.service;
+
+import com.capston_design.fkiller.itoms.service_desk.apiPayload.ApiResponse;
+import com.capston_design.fkiller.itoms.service_desk.client.TicketClient;
+import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
+import com.capston_design.fkiller.itoms.service_desk.dto.CreateTicketResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.dto.IncidentRequest;
+import com.capston_design.fkiller.itoms.service_desk.dto.UserCreateResponseDTO;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.sql.SqlBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+class IncidentServiceSqlBudgetTests {
+
+    @Autowired
+    private IncidentService incidentService;
+
+    @MockitoBean
+    private UserClient userClient;
+
+    @MockitoBean
+    private TicketClient ticketClient;
+
+    @Test
+    void createIncidentUsesAtMostTwoStatements() {
+        UserCreateResponseDTO user = new UserCreateResponseDTO();
+        user.setId(UUID.randomUUID());
+        user.setName("requester");
+        given(userClient.getRandomRequesterUser()).willReturn(ApiResponse.onSuccess(user));
+        given(ticketClient.createTicket(any())).willReturn(new CreateTicketResponseDTO(UUID.randomUUID()));
+
+        SqlBudget.assertStatementsAtMost(2,
+                () -> incidentService.createIncident(new IncidentRequest("title", "content", "URGENT")));
+    }
+
+    @Test
+    void completeTicketUsesAtMostTwoStatements() {
+        UserCreateResponseDTO user = new UserCreateResponseDTO();
+        user.setId(UUID.randomUUID());
+        user.setName("requester");
+        given(userClient.getRandomRequesterUser()).willReturn(ApiResponse.onSuccess(user));
+        given(ticketClient.createTicket(any())).willReturn(new CreateTicketResponseDTO(UUID.randomUUID()));
+        Incident incident = incidentService.createIncident(new IncidentRequest("title", "content", "RELAXED"));
+
+        SqlBudget.assertStatementsAtMost(2,
+                () -> incidentService.completeTicket(incident.getTicketByID(), incident.getId()));
+    }
+}
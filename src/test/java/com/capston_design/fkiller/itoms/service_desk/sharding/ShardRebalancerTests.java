@@ -0,0 +1,109 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRebalancerTests {
+
+    private static final String BUCKETS = "0-511:0,512-1023:1";
+
+    private final String shard0 = url();
+    private final String shard1 = url();
+
+    @Test
+    void dryRunLeavesRowsInPlace() throws SQLException {
+        try (Connection db0 = open(shard0); Connection db1 = open(shard1)) {
+            createTables(db0);
+            createTables(db1);
+            insert(db0, 50);
+
+            ShardRebalancer.main(new String[]{BUCKETS, shard0 + "," + shard1, "sa", ""});
+
+            assertThat(ids(db0, "t_incident")).hasSize(50);
+            assertThat(ids(db1, "t_incident")).isEmpty();
+        }
+    }
+
+    @Test
+    void movesRowsToShardOfNewBucketTable() throws SQLException {
+        ShardRouter router = new ShardRouter(ShardRouter.parseBuckets(BUCKETS), 2);
+        try (Connection db0 = open(shard0); Connection db1 = open(shard1)) {
+            createTables(db0);
+            createTables(db1);
+            // 샤딩 전환 전: 모든 행이 기존 단일 DB (0번) 에 있다
+            List<UUID> ids = insert(db0, 200);
+
+            ShardRebalancer.main(new String[]{BUCKETS, shard0 + "," + shard1, "sa", "", "true"});
+            // 다시 실행해도 옮길 행이 없어야 한다
+            ShardRebalancer.main(new String[]{BUCKETS, shard0 + "," + shard1, "sa", "", "true"});
+
+            Set<UUID> expected0 = new HashSet<>();
+            Set<UUID> expected1 = new HashSet<>();
+            for (UUID id : ids) {
+                (router.shardOf(id) == 0 ? expected0 : expected1).add(id);
+            }
+            assertThat(expected1).isNotEmpty();
+            assertThat(ids(db0, "t_incident")).isEqualTo(expected0);
+            assertThat(ids(db0, "t_incident_content")).isEqualTo(expected0);
+            assertThat(ids(db1, "t_incident")).isEqualTo(expected1);
+            assertThat(ids(db1, "t_incident_content")).isEqualTo(expected1);
+        }
+    }
+
+    private static String url() {
+        return "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+
+    private static Connection open(String url) throws SQLException {
+        return DriverManager.getConnection(url, "sa", "");
+    }
+
+    private static void createTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_incident (id UUID PRIMARY KEY, title VARCHAR(255), status TINYINT)");
+            statement.execute("CREATE TABLE t_incident_content (id UUID PRIMARY KEY, content BLOB)");
+        }
+    }
+
+    private static List<UUID> insert(Connection connection, int count) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (PreparedStatement incident = connection.prepareStatement("INSERT INTO t_incident (id, title, status) VALUES (?, ?, 2)");
+             PreparedStatement content = connection.prepareStatement("INSERT INTO t_incident_content (id, content) VALUES (?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                incident.setObject(1, id);
+                incident.setString(2, "incident-" + i);
+                incident.executeUpdate();
+                content.setObject(1, id);
+                content.setBytes(2, new byte[]{0, 'a'});
+                content.executeUpdate();
+            }
+        }
+        return ids;
+    }
+
+    private static Set<UUID> ids(Connection connection, String table) throws SQLException {
+        Set<UUID> ids = new HashSet<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id FROM " + table)) {
+            while (rows.next()) {
+                ids.add(rows.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,92 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRouterTests {
+
+    @Test
+    void sameIdAlwaysRoutesToSameShard() {
+        ShardRouter router = new ShardRouter(4);
+        UUID incidentId = UUID.randomUUID();
+
+        assertThat(new ShardRouter(4).shardOf(incidentId)).isEqualTo(router.shardOf(incidentId));
+    }
+
+    @Test
+    void idsSpreadEvenlyAcrossShards() {
+        ShardRouter router = new ShardRouter(4);
+        int[] counts = new int[4];
+        for (int i = 0; i < 40_000; i++) {
+            counts[router.shardOf(UUID.randomUUID())]++;
+        }
+
+        for (int count : counts) {
+            assertThat(count).isBetween(9_000, 11_000);
+        }
+    }
+
+    @Test
+    void reshardingOnlyMovesRemappedBuckets() {
+        int[] buckets = new int[ShardRouter.BUCKETS];
+        for (int bucket = 0; bucket < ShardRouter.BUCKETS; bucket++) {
+            buckets[bucket] = bucket % 2;
+        }
+        ShardRouter before = new ShardRouter(buckets);
+        // 0번 샤드의 버킷 절반을 새 2번 샤드로 이동
+        for (int bucket = 0; bucket < ShardRouter.BUCKETS; bucket += 4) {
+            buckets[bucket] = 2;
+        }
+        ShardRouter after = new ShardRouter(buckets);
+
+        assertThat(after.shardCount()).isEqualTo(3);
+        for (int i = 0; i < 10_000; i++) {
+            UUID incidentId = UUID.randomUUID();
+            if (before.shardOf(incidentId) == 1) {
+                assertThat(after.shardOf(incidentId)).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    void parsesExplicitBucketTable() {
+        ShardRouter router = new ShardRouter(ShardRouter.parseBuckets("0-511:0, 512-1022:1, 1023:0"), 2);
+
+        assertThat(router.shardCount()).isEqualTo(2);
+        for (int i = 0; i < 1_000; i++) {
+            UUID incidentId = UUID.randomUUID();
+            int bucket = ShardRouter.bucketOf(incidentId);
+            assertThat(router.shardOf(incidentId)).isEqualTo(bucket >= 512 && bucket < 1023 ? 1 : 0);
+        }
+    }
+
+    @Test
+    void rejectsIncompleteOrOverlappingBucketTable() {
+        assertThatThrownBy(() -> ShardRouter.parseBuckets("0-511:0"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Bucket 512 is not assigned");
+        assertThatThrownBy(() -> ShardRouter.parseBuckets("0-600:0,600-1023:1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Bucket 600 is assigned more than once");
+        assertThatThrownBy(() -> ShardRouter.parseBuckets("0-1024:0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsBucketTableThatDoesNotMatchShardList() {
+        int[] twoShards = ShardRouter.parseBuckets("0-511:0,512-1023:1");
+
+        // 샤드 목록에 없는 샤드를 가리키는 테이블
+        assertThatThrownBy(() -> new ShardRouter(twoShards, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("refers to shard 1");
+        // 샤드를 추가했지만 테이블에 반영하지 않은 경우
+        assertThatThrownBy(() -> new ShardRouter(twoShards, 3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Shard 2 owns no bucket");
+    }
+}
@@ -0,0 +1,98 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 샤드 수별 insert 처리량 보고 (임베디드 H2 여러 개를 샤드로 사용)
+// 운영과 같은 경로(트랜잭션 안에서 ShardContext.route -> LazyConnectionDataSourceProxy -> ShardRoutingDataSource)로 쓰고,
+// 각 행이 ShardRouter 가 고른 샤드에 들어갔는지만 검증한다. 처리량은 같은 JVM 의 H2 라 출력만 하고 비교하지 않는다.
+// 기본 test 에서는 제외되며 ./gradlew shardBenchmark 로 실행
+@Tag("benchmark")
+class ShardRoutingThroughputReportTests {
+
+    private static final int WRITERS = 8;
+    private static final int INSERTS_PER_WRITER = 2_000;
+
+    @Test
+    void reportsInsertThroughputPerShardCount() throws Exception {
+        for (int shardCount : new int[]{1, 2, 4}) {
+            System.out.printf("shards=%d  inserts/s=%,.0f%n", shardCount, measure(shardCount));
+        }
+    }
+
+    private double measure(int shardCount) throws Exception {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setJdbcUrl("jdbc:h2:mem:bench_" + shardCount + "_" + shard + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+            pool.setPoolName("shard-" + shard);
+            pool.setMaximumPoolSize(WRITERS);
+            new JdbcTemplate(pool).execute("create table t_incident (id uuid primary key, title varchar(255), " +
+                    "status tinyint, priority tinyint, created_at timestamp)");
+            pools.add(pool);
+        }
+
+        try (ShardDataSources shardDataSources = new ShardDataSources(pools)) {
+            ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+            routingDataSource.setTargetDataSources(shardDataSources.asTargets());
+            routingDataSource.setDefaultTargetDataSource(shardDataSources.get(0));
+            routingDataSource.afterPropertiesSet();
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+            ShardRouter router = new ShardRouter(shardCount);
+            TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            long[] expectedPerShard = new long[shardCount];
+            List<UUID> incidentIds = new ArrayList<>();
+            for (int i = 0; i < WRITERS * INSERTS_PER_WRITER; i++) {
+                UUID incidentId = UUID.randomUUID();
+                incidentIds.add(incidentId);
+                expectedPerShard[router.shardOf(incidentId)]++;
+            }
+
+            ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                List<UUID> slice = incidentIds.subList(writer * INSERTS_PER_WRITER, (writer + 1) * INSERTS_PER_WRITER);
+                futures.add(writers.submit(() -> {
+                    for (UUID incidentId : slice) {
+                        transaction.executeWithoutResult(status -> {
+                            ShardContext.route(router.shardOf(incidentId));
+                            jdbcTemplate.update("insert into t_incident (id, title, status, priority, created_at) values (?, ?, ?, ?, ?)",
+                                    incidentId, "benchmark", 2, 1, new Timestamp(System.currentTimeMillis()));
+                        });
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            writers.shutdown();
+
+            for (int shard = 0; shard < shardCount; shard++) {
+                Long rows = new JdbcTemplate(shardDataSources.get(shard)).queryForObject("select count(*) from t_incident", Long.class);
+                assertThat(rows).as("rows on shard %d", shard).isEqualTo(expectedPerShard[shard]);
+            }
+            return WRITERS * INSERTS_PER_WRITER / seconds;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardSchemaVerifierTests {
+
+    private final ShardDataSources shards = new ShardDataSources(List.of(h2(), h2()));
+
+    @AfterEach
+    void tearDown() {
+        shards.close();
+    }
+
+    @Test
+    void passesWhenEveryShardHasTables() throws SQLException {
+        createTables(0);
+        createTables(1);
+
+        assertThatCode(() -> verifier().afterSingletonsInstantiated()).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failsWhenAShardIsMissingTables() throws SQLException {
+        // ddl-auto 가 0번 샤드에만 적용된 상태
+        createTables(0);
+
+        assertThatThrownBy(() -> verifier().afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shard-1.t_incident")
+                .hasMessageContaining("shard-1.t_incident_content")
+                .hasMessageNotContaining("shard-0");
+    }
+
+    private ShardSchemaVerifier verifier() {
+        return new ShardSchemaVerifier(shards, List.of("t_incident", "t_incident_content"));
+    }
+
+    private void createTables(int shard) throws SQLException {
+        try (Connection connection = shards.get(shard).getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_incident (id UUID PRIMARY KEY, title VARCHAR(255))");
+            statement.execute("CREATE TABLE t_incident_content (id UUID PRIMARY KEY, content BLOB)");
+        }
+    }
+
+    private static HikariDataSource h2() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
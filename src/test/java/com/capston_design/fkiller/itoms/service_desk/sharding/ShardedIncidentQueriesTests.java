@@ -0,0 +1,62 @@
+package com.capston_design.fkiller.itoms.service_desk.sharding;
+
+import com.capston_design.fkiller.itoms.service_desk.client.TicketClient;
+import com.capston_design.fkiller.itoms.service_desk.client.UserClient;
+import com.capston_design.fkiller.itoms.service_desk.model.Incident;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Status;
+import com.capston_design.fkiller.itoms.service_desk.repository.IncidentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ShardedIncidentQueriesTests {
+
+    @Autowired
+    private ShardedIncidentQueries shardedIncidentQueries;
+
+    @Autowired
+    private IncidentRepository incidentRepository;
+
+    @MockitoBean
+    private UserClient userClient;
+
+    @MockitoBean
+    private TicketClient ticketClient;
+
+    @Test
+    void markEscalatedReturnsOnlyUpdatedIds() {
+        Incident open = save(Status.Incomplete, null);
+        Incident completed = save(Status.Completed, null);
+        Incident alreadyEscalated = save(Status.Incomplete, true);
+
+        List<UUID> escalated = shardedIncidentQueries.markEscalated(
+                List.of(open.getId(), completed.getId(), alreadyEscalated.getId()));
+
+        assertThat(escalated).containsExactly(open.getId());
+        assertThat(incidentRepository.findById(open.getId())).get()
+                .extracting(Incident::getEscalated).isEqualTo(true);
+        assertThat(incidentRepository.findById(completed.getId())).get()
+                .extracting(Incident::getEscalated).isNull();
+        // 두 번째 호출에서는 이미 에스컬레이션되어 아무것도 갱신하지 않는다
+        assertThat(shardedIncidentQueries.markEscalated(List.of(open.getId()))).isEmpty();
+    }
+
+    private Incident save(Status status, Boolean escalated) {
+        Incident incident = new Incident();
+        incident.setTitle("title");
+        incident.setStatus(status);
+        incident.setPriority(Priority.URGENT);
+        incident.setRequestDT(LocalDateTime.now().minusHours(1));
+        incident.setEscalated(escalated);
+        return incidentRepository.save(incident);
+    }
+}
@@ -0,0 +1,50 @@
+package com.capston_design.fkiller.itoms.service_desk.sla;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import com.capston_design.fkiller.itoms.service_desk.sharding.ShardedIncidentQueries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SlaEscalationSchedulerTests {
+
+    private final ShardedIncidentQueries shardedIncidentQueries = mock(ShardedIncidentQueries.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SlaEscalationScheduler scheduler = new SlaEscalationScheduler(shardedIncidentQueries, eventPublisher,
+            new SimpleMeterRegistry(), Duration.ofMinutes(30), Duration.ofHours(8), 1, 500, Duration.ofSeconds(30));
+
+    @Test
+    void publishesOnlyIdsActuallyEscalated() {
+        UUID escalated = UUID.randomUUID();
+        UUID completedMeanwhile = UUID.randomUUID();
+        scheduler.register(escalated, Priority.URGENT, LocalDateTime.now().minusHours(1));
+        scheduler.register(completedMeanwhile, Priority.URGENT, LocalDateTime.now().minusHours(1));
+        given(shardedIncidentQueries.markEscalated(anyCollection())).willReturn(List.of(escalated));
+
+        scheduler.tick();
+
+        verify(eventPublisher).publishEvent(new IncidentsEscalatedEvent(List.of(escalated)));
+    }
+
+    @Test
+    void publishesNothingWhenNoRowWasUpdated() {
+        scheduler.register(UUID.randomUUID(), Priority.URGENT, LocalDateTime.now().minusHours(1));
+        given(shardedIncidentQueries.markEscalated(anyCollection())).willReturn(List.of());
+
+        scheduler.tick();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
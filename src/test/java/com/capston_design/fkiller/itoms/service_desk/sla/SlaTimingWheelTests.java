@@ -0,0 +1,99 @@
+package com.capston_design.fkiller.itoms.service_desk.sla;
+
+import com.capston_design.fkiller.itoms.service_desk.model.enums.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlaTimingWheelTests {
+
+    // 휠 범위: 64^4 tick
+    private static final long WHEEL_RANGE = 1L << 24;
+
+    @Test
+    void expiresAtDeadlineAndNotBefore() {
+        SlaTimingWheel wheel = new SlaTimingWheel(1000, 0);
+        UUID incidentId = UUID.randomUUID();
+        // 5.5초 마감은 6번째 tick 으로 올림
+        wheel.schedule(incidentId, Priority.URGENT, 5_500);
+
+        assertThat(wheel.advanceTo(5_999)).isEmpty();
+        assertThat(idsOf(wheel.advanceTo(6_000))).containsExactly(incidentId);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void overdueDeadlineExpiresOnNextAdvance() {
+        SlaTimingWheel wheel = new SlaTimingWheel(1000, 10_000);
+        UUID incidentId = UUID.randomUUID();
+        wheel.schedule(incidentId, Priority.RELAXED, 1_000);
+
+        assertThat(idsOf(wheel.advanceTo(10_000))).containsExactly(incidentId);
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires() {
+        SlaTimingWheel wheel = new SlaTimingWheel(1000, 0);
+        UUID cancelled = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        wheel.schedule(cancelled, Priority.URGENT, 3_000);
+        wheel.schedule(kept, Priority.URGENT, 3_000);
+        // 한 번 휠에 배치된 뒤에 취소
+        wheel.advanceTo(1_000);
+
+        assertThat(wheel.cancel(cancelled)).isTrue();
+        assertThat(wheel.cancel(cancelled)).isFalse();
+        assertThat(idsOf(wheel.advanceTo(10_000))).containsExactly(kept);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void reschedulingReplacesPreviousDeadline() {
+        SlaTimingWheel wheel = new SlaTimingWheel(1000, 0);
+        UUID incidentId = UUID.randomUUID();
+        wheel.schedule(incidentId, Priority.URGENT, 2_000);
+        wheel.schedule(incidentId, Priority.URGENT, 5_000);
+
+        assertThat(wheel.advanceTo(4_999)).isEmpty();
+        assertThat(idsOf(wheel.advanceTo(5_000))).containsExactly(incidentId);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void cascadesFromEveryLevelAtExactDeadline() {
+        // tick 경계에 맞지 않는 시작 시각에서 단계별(64^1, 64^2, 64^3, 64^4 미만) 마감 확인
+        long start = 1_700_000_123_457L;
+        SlaTimingWheel wheel = new SlaTimingWheel(1, start);
+        long[] offsets = {10, 1_000, 100_000, 5_000_000};
+        UUID[] incidentIds = new UUID[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            incidentIds[i] = UUID.randomUUID();
+            wheel.schedule(incidentIds[i], Priority.RELAXED, start + offsets[i]);
+        }
+
+        for (int i = 0; i < offsets.length; i++) {
+            assertThat(wheel.advanceTo(start + offsets[i] - 1)).as("before level %d deadline", i).isEmpty();
+            assertThat(idsOf(wheel.advanceTo(start + offsets[i]))).as("level %d deadline", i).containsExactly(incidentIds[i]);
+        }
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    void clampsDeadlinesBeyondWheelRange() {
+        SlaTimingWheel wheel = new SlaTimingWheel(1, 0);
+        UUID incidentId = UUID.randomUUID();
+        long deadline = WHEEL_RANGE + 5_000_000;
+        wheel.schedule(incidentId, Priority.RELAXED, deadline);
+
+        assertThat(wheel.advanceTo(WHEEL_RANGE)).isEmpty();
+        assertThat(wheel.advanceTo(deadline - 1)).isEmpty();
+        assertThat(idsOf(wheel.advanceTo(deadline))).containsExactly(incidentId);
+    }
+
+    private List<UUID> idsOf(List<SlaTimingWheel.Timeout> timeouts) {
+        return timeouts.stream().map(SlaTimingWheel.Timeout::getIncidentId).toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.capston_design.fkiller.itoms.service_desk.sql;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 테스트에서 특정 작업이 실행하는 SQL statement 수 상한을 검증하는 유틸
+// 예) SqlBudget.assertStatementsAtMost(2, () -> incidentService.createIncident(request));
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static <T> T assertStatementsAtMost(long maxStatements, Supplier<T> action) {
+        SqlStatementStats stats = SqlStatementTracker.begin();
+        try {
+            T result = action.get();
+            assertThat(stats.getStatements())
+                    .as("SQL statement budget (rows: %d, db time: %d ms)", stats.getRows(), stats.getTimeNanos() / 1_000_000)
+                    .isLessThanOrEqualTo(maxStatements);
+            return result;
+        } finally {
+            SqlStatementTracker.end();
+        }
+    }
+}